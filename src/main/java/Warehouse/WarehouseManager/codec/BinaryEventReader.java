@@ -0,0 +1,53 @@
+package Warehouse.WarehouseManager.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+public class BinaryEventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public int readByte() {
+        requireBytes(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int current = readByte();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint at position " + position);
+    }
+
+    public long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        long length = readVarLong();
+        if (length < 0 || length > buffer.length - position) {
+            throw new SerializationException("String length " + length + " exceeds remaining " + (buffer.length - position) + " bytes");
+        }
+        String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+        position += (int) length;
+        return value;
+    }
+
+    private void requireBytes(int bytes) {
+        if (position + bytes > buffer.length) {
+            throw new SerializationException("Unexpected end of message at position " + position);
+        }
+    }
+}
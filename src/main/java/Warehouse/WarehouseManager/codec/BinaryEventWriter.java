@@ -0,0 +1,88 @@
+package Warehouse.WarehouseManager.codec;
+
+import java.util.Arrays;
+
+public class BinaryEventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public BinaryEventWriter reset() {
+        position = 0;
+        return this;
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeZigZagLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeString(String value) {
+        // a UTF-8 encoded char never takes more than three bytes, so the length prefix can be written after the bytes
+        ensureCapacity(5 + value.length() * 3);
+        int lengthPosition = position;
+        int start = position + 5;
+        int end = encodeUtf8(value, start);
+        int length = end - start;
+        position = lengthPosition;
+        writeVarLong(length);
+        System.arraycopy(buffer, start, buffer, position, length);
+        position += length;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public int size() {
+        return position;
+    }
+
+    private int encodeUtf8(String value, int offset) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character < 0x80) {
+                buffer[offset++] = (byte) character;
+            } else if (character < 0x800) {
+                buffer[offset++] = (byte) (0xC0 | (character >> 6));
+                buffer[offset++] = (byte) (0x80 | (character & 0x3F));
+            } else if (Character.isHighSurrogate(character) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(character, value.charAt(++i));
+                buffer[offset++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[offset++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[offset++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(character)) {
+                buffer[offset++] = (byte) '?';
+            } else {
+                buffer[offset++] = (byte) (0xE0 | (character >> 12));
+                buffer[offset++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+                buffer[offset++] = (byte) (0x80 | (character & 0x3F));
+            }
+        }
+        return offset;
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+        if (position + additionalBytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additionalBytes));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package Warehouse.WarehouseManager.codec;
+
+import Warehouse.WarehouseManager.enums.ProductSize;
+import Warehouse.WarehouseManager.product.ProductDto;
+import org.apache.kafka.common.errors.SerializationException;
+
+public class ProductDtoCodec {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_SIZE = 1 << 2;
+    private static final ProductSize[] PRODUCT_SIZES = ProductSize.values();
+
+    // layout: schema version, presence flags, zigzag varint id, varint length + UTF-8 name, varint size ordinal
+    public static void encode(ProductDto productDto, BinaryEventWriter writer) {
+        int flags = (productDto.id() != null ? HAS_ID : 0)
+                | (productDto.name() != null ? HAS_NAME : 0)
+                | (productDto.size() != null ? HAS_SIZE : 0);
+        writer.writeByte(SCHEMA_VERSION);
+        writer.writeByte(flags);
+        if (productDto.id() != null) {
+            writer.writeZigZagLong(productDto.id());
+        }
+        if (productDto.name() != null) {
+            writer.writeString(productDto.name());
+        }
+        if (productDto.size() != null) {
+            writer.writeVarLong(productDto.size().ordinal());
+        }
+    }
+
+    public static ProductDto decode(byte[] data) {
+        BinaryEventReader reader = new BinaryEventReader(data);
+        int schemaVersion = reader.readByte();
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new SerializationException("Unsupported ProductDto schema version " + schemaVersion);
+        }
+        int flags = reader.readByte();
+        Long id = (flags & HAS_ID) != 0 ? reader.readZigZagLong() : null;
+        String name = (flags & HAS_NAME) != 0 ? reader.readString() : null;
+        ProductSize size = null;
+        if ((flags & HAS_SIZE) != 0) {
+            long ordinal = reader.readVarLong();
+            if (ordinal < 0 || ordinal >= PRODUCT_SIZES.length) {
+                throw new SerializationException("Unknown ProductSize ordinal " + ordinal);
+            }
+            size = PRODUCT_SIZES[(int) ordinal];
+        }
+        return new ProductDto(id, name, size);
+    }
+}
@@ -1,6 +1,7 @@
 package Warehouse.WarehouseManager.config;
 
 import Warehouse.WarehouseManager.consumer.ProductDeserializer;
+import Warehouse.WarehouseManager.product.ProductDto;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.LongDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,22 +22,43 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${product.consumer.concurrency:3}")
+    private int concurrency;
+
+    @Value("${product.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${product.consumer.fetch-min-bytes:65536}")
+    private int fetchMinBytes;
+
+    @Value("${product.consumer.fetch-max-wait-ms:100}")
+    private int fetchMaxWaitMs;
+
+    @Value("${product.consumer.max-partition-fetch-bytes:1048576}")
+    private int maxPartitionFetchBytes;
+
     @Bean
-    public ConsumerFactory<String,String> consumerFactory(){
+    public ConsumerFactory<Long,ProductDto> consumerFactory(){
         Map<String,Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG,bootstrapAddress);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, LongDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ProductDeserializer.class);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+        configProps.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, maxPartitionFetchBytes);
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String,String>
+    public ConcurrentKafkaListenerContainerFactory<Long,ProductDto>
         kafkaListenerContainerFactory(){
-        ConcurrentKafkaListenerContainerFactory<String,String> factory =
+        ConcurrentKafkaListenerContainerFactory<Long,ProductDto> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
         return factory;
     }
 
@@ -20,12 +20,16 @@ public class KafkaProducerConfig {
     @Value(value = "${spring.kafka.bootstrap-servers}")
     private String bootstrapAddress;
 
+    @Value("${product.kafka.wire-format:JSON}")
+    private String wireFormat;
+
     @Bean
     public ProducerFactory<Long, ProductDto> producerFactory(){
         Map<String,Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG,bootstrapAddress);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ProductSerializer.class);
+        configProps.put(ProductSerializer.WIRE_FORMAT_CONFIG, wireFormat);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -20,6 +20,12 @@ public class KafkaTopicConfig {
     @Value(value = "${spring.kafka.bootstrap-servers}")
     private String boostrapAddress;
 
+    @Value("${product.topic.partitions:6}")
+    private int partitions;
+
+    @Value("${product.topic.replication-factor:1}")
+    private short replicationFactor;
+
     @Bean
     public KafkaAdmin kafkaAdmin(){
         Map<String, Object> configs = new HashMap<>();
@@ -28,7 +34,7 @@ public class KafkaTopicConfig {
     }
 
     @Bean NewTopic topic(){
-        return new NewTopic("new-topic", 1,(short) 1);
+        return new NewTopic("new-topic", partitions, replicationFactor);
     }
 
 }
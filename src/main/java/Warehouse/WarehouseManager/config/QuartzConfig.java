@@ -1,8 +1,12 @@
 package Warehouse.WarehouseManager.config;
 
+import Warehouse.WarehouseManager.job.ArchiveWarehouseTasksJob;
+import Warehouse.WarehouseManager.job.ReloadPermissionMatrixJob;
+import Warehouse.WarehouseManager.job.RotateSigningKeysJob;
 import Warehouse.WarehouseManager.job.ShareTheProductsReportJob;
 import Warehouse.WarehouseManager.job.StartListenerJob;
 import Warehouse.WarehouseManager.job.StopListenerJob;
+import Warehouse.WarehouseManager.job.SynchronizeTokenRevocationsJob;
 import org.quartz.*;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -65,4 +69,72 @@ public class QuartzConfig {
                 .build();
     }
 
+    @Bean
+    public JobDetail archiveWarehouseTasksJobDetail(){
+        return JobBuilder.newJob(ArchiveWarehouseTasksJob.class)
+                .withIdentity("archiveWarehouseTasks")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger archiveWarehouseTasksTrigger(JobDetail archiveWarehouseTasksJobDetail){
+        return TriggerBuilder.newTrigger()
+                .forJob(archiveWarehouseTasksJobDetail)
+                .withIdentity("archiveWarehouseTasks")
+                .withSchedule(CronScheduleBuilder.cronSchedule("0 30 1 * * ?"))
+                .build();
+    }
+
+    @Bean
+    public JobDetail reloadPermissionMatrixJobDetail(){
+        return JobBuilder.newJob(ReloadPermissionMatrixJob.class)
+                .withIdentity("reloadPermissionMatrix")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger reloadPermissionMatrixTrigger(JobDetail reloadPermissionMatrixJobDetail){
+        return TriggerBuilder.newTrigger()
+                .forJob(reloadPermissionMatrixJobDetail)
+                .withIdentity("reloadPermissionMatrix")
+                .withSchedule(CronScheduleBuilder.cronSchedule("0/30 * * * * ?"))
+                .build();
+    }
+
+    @Bean
+    public JobDetail rotateSigningKeysJobDetail(){
+        return JobBuilder.newJob(RotateSigningKeysJob.class)
+                .withIdentity("rotateSigningKeys")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger rotateSigningKeysTrigger(JobDetail rotateSigningKeysJobDetail){
+        return TriggerBuilder.newTrigger()
+                .forJob(rotateSigningKeysJobDetail)
+                .withIdentity("rotateSigningKeys")
+                .withSchedule(CronScheduleBuilder.cronSchedule("0 0 3 * * ?"))
+                .build();
+    }
+
+    @Bean
+    public JobDetail synchronizeTokenRevocationsJobDetail(){
+        return JobBuilder.newJob(SynchronizeTokenRevocationsJob.class)
+                .withIdentity("synchronizeTokenRevocations")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger synchronizeTokenRevocationsTrigger(JobDetail synchronizeTokenRevocationsJobDetail){
+        return TriggerBuilder.newTrigger()
+                .forJob(synchronizeTokenRevocationsJobDetail)
+                .withIdentity("synchronizeTokenRevocations")
+                .withSchedule(CronScheduleBuilder.cronSchedule("0/15 * * * * ?"))
+                .build();
+    }
+
 }
@@ -0,0 +1,24 @@
+package Warehouse.WarehouseManager.config;
+
+import Warehouse.WarehouseManager.security.AuthenticationInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AuthenticationInterceptor authenticationInterceptor;
+
+    public WebConfig(final AuthenticationInterceptor authenticationInterceptor) {
+        this.authenticationInterceptor = authenticationInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(authenticationInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/employee/login", "/api/employee/refresh-token", "/api/employee/registration",
+                        "/api/employee/activate/*");
+    }
+}
@@ -2,37 +2,51 @@ package Warehouse.WarehouseManager.consumer;
 
 
 
+import Warehouse.WarehouseManager.enums.BufferOverflowPolicy;
+import Warehouse.WarehouseManager.exception.ProductBufferFullException;
 import Warehouse.WarehouseManager.product.ProductDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Component
 public class ProductConsumer {
 
-    private List<ProductDto> productMessages = new ArrayList<>();
+    private final ProductEventBuffer productMessages;
 
     private final String TOPIC_NAME = "new-topic";
 
-    private int lastReadIndex = 0;
-
     private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
 
 
     @Autowired
-    public ProductConsumer(KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry) {
+    public ProductConsumer(KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry
+            , @Value("${product.consumer.buffer-capacity:65536}") int bufferCapacity
+            , @Value("${product.consumer.overflow-policy:DROP_NEWEST}") BufferOverflowPolicy overflowPolicy) {
         this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.productMessages = new ProductEventBuffer(bufferCapacity, overflowPolicy);
     }
 
     @KafkaListener(id = "id-1",topics = TOPIC_NAME, groupId = "group-1",autoStartup = "false")
-    public void consume(ProductDto productDto) {
-        productMessages.add(productDto);
-        System.out.println("Received Product: " + productDto);
+    public void consume(List<ProductDto> productDtoList) {
+        for (int index = 0; index < productDtoList.size(); index++) {
+            ProductDto productDto = productDtoList.get(index);
+            if (productDto == null) {
+                continue;
+            }
+            try {
+                productMessages.offer(productDto);
+            } catch (ProductBufferFullException e) {
+                // records before the index are committed, so only the rest of the batch is redelivered
+                throw new BatchListenerFailedException(e.getMessage(), e, index);
+            }
+        }
     }
 
     public boolean startListener(String listenerId){
@@ -48,9 +62,11 @@ public class ProductConsumer {
     }
 
     public List<ProductDto> retrieveAllProductAddedAtDay() {
-        List<ProductDto> productsAddedAtDay = new ArrayList<>(productMessages.subList(lastReadIndex,productMessages.size()));
-        lastReadIndex = productsAddedAtDay.size();
-        return productsAddedAtDay;
+        return productMessages.drain();
+    }
+
+    public ProductEventBufferStats getBufferStats() {
+        return productMessages.getStats();
     }
 
 }
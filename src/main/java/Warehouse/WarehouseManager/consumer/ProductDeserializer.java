@@ -1,8 +1,12 @@
 package Warehouse.WarehouseManager.consumer;
 
+import Warehouse.WarehouseManager.codec.ProductDtoCodec;
+import Warehouse.WarehouseManager.enums.WireFormat;
 import Warehouse.WarehouseManager.product.ProductDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import java.util.Map;
@@ -14,19 +18,33 @@ public class ProductDeserializer implements Deserializer<ProductDto> {
     public void configure(Map<String, ?> configs, boolean isKey) {
     }
 
+    @Override
+    public ProductDto deserialize(String topic, Headers headers, byte[] data) {
+        Header wireFormatHeader = headers == null ? null : headers.lastHeader(WireFormat.HEADER);
+        return deserialize(data, wireFormatHeader == null ? null : wireFormatHeader.value());
+    }
+
     @Override
     public ProductDto deserialize(String s, byte[] data) {
+        return deserialize(data, null);
+    }
+
+    private ProductDto deserialize(byte[] data, byte[] wireFormatHeader) {
+        if (data == null) {
+            return null;
+        }
         try {
-            if (data == null) {
-                System.out.println("Null received at deserializing");
-                return null;
+            if (WireFormat.fromHeader(wireFormatHeader) == WireFormat.BINARY) {
+                return ProductDtoCodec.decode(data);
             }
-            System.out.println("Deserializing...");
-            return objectMapper.readValue(new String(data, "UTF-8"), ProductDto.class);
+            return objectMapper.readValue(data, ProductDto.class);
+        } catch (SerializationException e) {
+            throw e;
         } catch (Exception message) {
-            throw new SerializationException("Error when deserializing byte[] to MessageDto", message);
+            throw new SerializationException("Error when deserializing byte[] to ProductDto", message);
         }
     }
+
     @Override
     public void close() {
     }
@@ -0,0 +1,91 @@
+package Warehouse.WarehouseManager.consumer;
+
+import Warehouse.WarehouseManager.enums.BufferOverflowPolicy;
+import Warehouse.WarehouseManager.exception.ProductBufferFullException;
+import Warehouse.WarehouseManager.product.ProductDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ProductEventBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final BufferOverflowPolicy overflowPolicy;
+    private final AtomicReferenceArray<ProductDto> slots;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder drained = new LongAdder();
+
+    public ProductEventBuffer(int requestedCapacity, BufferOverflowPolicy overflowPolicy) {
+        if (requestedCapacity < 1 || requestedCapacity > 1 << 30) {
+            throw new IllegalArgumentException("Buffer capacity must be between 1 and 2^30");
+        }
+        this.capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.overflowPolicy = overflowPolicy;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public boolean offer(ProductDto productDto) {
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head.get() >= capacity) {
+                return overflow();
+            }
+            // producers only claim a sequence here, the drain stops at the first slot that is not yet published
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.lazySet((int) currentTail & mask, productDto);
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    public synchronized List<ProductDto> drain() {
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        List<ProductDto> productDtoList = new ArrayList<>((int) (currentTail - currentHead));
+        while (currentHead < currentTail) {
+            int index = (int) currentHead & mask;
+            ProductDto productDto = slots.get(index);
+            if (productDto == null) {
+                break;
+            }
+            productDtoList.add(productDto);
+            slots.lazySet(index, null);
+            currentHead++;
+        }
+        head.set(currentHead);
+        drained.add(productDtoList.size());
+        return productDtoList;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public ProductEventBufferStats getStats() {
+        return new ProductEventBufferStats(capacity, size(), accepted.sum(), dropped.sum(), rejected.sum(), drained.sum(),
+                overflowPolicy);
+    }
+
+    private boolean overflow() {
+        if (overflowPolicy == BufferOverflowPolicy.REJECT) {
+            rejected.increment();
+            throw new ProductBufferFullException(capacity);
+        }
+        dropped.increment();
+        return false;
+    }
+}
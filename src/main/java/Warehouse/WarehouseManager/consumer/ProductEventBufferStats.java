@@ -0,0 +1,7 @@
+package Warehouse.WarehouseManager.consumer;
+
+import Warehouse.WarehouseManager.enums.BufferOverflowPolicy;
+
+public record ProductEventBufferStats(int capacity, int size, long accepted, long dropped, long rejected, long drained,
+                                      BufferOverflowPolicy overflowPolicy) {
+}
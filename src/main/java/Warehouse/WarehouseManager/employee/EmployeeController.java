@@ -1,7 +1,12 @@
 package Warehouse.WarehouseManager.employee;
 
+import Warehouse.WarehouseManager.enums.RateLimitedEndpoint;
 import Warehouse.WarehouseManager.security.ChangePasswordDto;
 import Warehouse.WarehouseManager.security.LoginResponseDto;
+import Warehouse.WarehouseManager.security.PasswordHashStats;
+import Warehouse.WarehouseManager.security.RateLimitService;
+import Warehouse.WarehouseManager.security.RateLimitStats;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -14,10 +19,12 @@ import java.util.List;
 @RequestMapping("/api/employee")
 public class EmployeeController {
     private final EmployeeService employeeService;
+    private final RateLimitService rateLimitService;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, RateLimitService rateLimitService) {
         this.employeeService = employeeService;
+        this.rateLimitService = rateLimitService;
     }
 
     @GetMapping("/{username}")
@@ -26,24 +33,37 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeDto);
     }
 
+    @GetMapping("/metrics/password-hashing")
+    public ResponseEntity<PasswordHashStats> getPasswordHashStats() {
+        return ResponseEntity.ok(employeeService.getPasswordHashStats());
+    }
+
+    @GetMapping("/metrics/rate-limiting")
+    public ResponseEntity<List<RateLimitStats>> getRateLimitStats() {
+        return ResponseEntity.ok(rateLimitService.getRateLimitStats());
+    }
+
     @GetMapping("/all")
     public ResponseEntity<List<EmployeeDto>> getEmployeeDtoList() {
         return new ResponseEntity<List<EmployeeDto>>(employeeService.getEmployeeDtoList(), HttpStatus.OK);
     }
 
     @PostMapping("/registration")
-    public ResponseEntity<EmployeeDto> registerEmployee(@RequestBody EmployeeDto employeeDto) {
+    public ResponseEntity<EmployeeDto> registerEmployee(@RequestBody EmployeeDto employeeDto, HttpServletRequest request) {
+        rateLimitService.checkLimit(RateLimitedEndpoint.REGISTRATION, request.getRemoteAddr(), employeeDto.username());
         EmployeeDto employee = employeeService.employeeRegistration(employeeDto);
         return ResponseEntity.ok().body(employee);
     }
 
     @PatchMapping("/login")
-    public ResponseEntity<LoginResponseDto> loginEmployee(@RequestBody EmployeeDto employeeDto) {
+    public ResponseEntity<LoginResponseDto> loginEmployee(@RequestBody EmployeeDto employeeDto, HttpServletRequest request) {
+        rateLimitService.checkLimit(RateLimitedEndpoint.LOGIN, request.getRemoteAddr(), employeeDto.username());
         return ResponseEntity.ok(employeeService.employeeLogin(employeeDto));
     }
 
     @PatchMapping("/refresh-token")
-    public ResponseEntity<LoginResponseDto> refreshAccessToken(@RequestHeader(HttpHeaders.AUTHORIZATION) String bearerRefreshToken) {
+    public ResponseEntity<LoginResponseDto> refreshAccessToken(@RequestHeader(HttpHeaders.AUTHORIZATION) String bearerRefreshToken, HttpServletRequest request) {
+        rateLimitService.checkLimit(RateLimitedEndpoint.REFRESH_TOKEN, request.getRemoteAddr(), null);
         return ResponseEntity.ok(employeeService.refreshAccessToken(bearerRefreshToken));
     }
 
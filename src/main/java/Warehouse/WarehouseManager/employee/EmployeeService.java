@@ -3,8 +3,10 @@ package Warehouse.WarehouseManager.employee;
 import Warehouse.WarehouseManager.email.EmailService;
 import Warehouse.WarehouseManager.enums.Role;
 import Warehouse.WarehouseManager.exception.*;
+import Warehouse.WarehouseManager.security.AuthenticatedEmployee;
 import Warehouse.WarehouseManager.security.ChangePasswordDto;
 import Warehouse.WarehouseManager.security.LoginResponseDto;
+import Warehouse.WarehouseManager.security.PasswordHashStats;
 import Warehouse.WarehouseManager.security.SecurityService;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +14,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -78,45 +79,32 @@ public class EmployeeService {
         return employee.toEmployeeDto();
     }
 
-    @Transactional
+    // not transactional, like changePassword: no pooled connection may be held while waiting on the hash executor,
+    // so the rehash and the token family are written in their own short repository transactions
     public LoginResponseDto employeeLogin(EmployeeDto employeeDto) {
         if (employeeDto.username().isBlank() || employeeDto.password().isBlank()) {
             throw new EmptyDataException();
         }
-        EmployeeDto encodedEmployeeDto = getEmployeeDtoByUsername(employeeDto.username());
-        checkActivate(encodedEmployeeDto.isActive(), true);
-
-        if (securityService.checkPassword(employeeDto.password(), encodedEmployeeDto.password())) {
-            Employee employee = getEmployeeByUsername(employeeDto.username());
-            String accessToken = securityService.generateAccessToken(encodedEmployeeDto);
-            String refreshToken = securityService.generateRefreshToken(encodedEmployeeDto);
-            employee.setAccessToken(accessToken);
-            employee.setAccessTokenExpirationDate(securityService.getTokenExpirationDate(accessToken));
-            employee.setRefreshToken(refreshToken);
-            employee.setRefreshTokenExpirationDate(securityService.getTokenExpirationDate(refreshToken));
-            employeeRepository.save(employee);
-            return new LoginResponseDto(accessToken, refreshToken);
-        } else {
+        Employee employee = getEmployeeByUsername(employeeDto.username());
+        checkActivate(employee.isActive(), true);
+
+        if (!securityService.checkPassword(employeeDto.password(), employee.getPassword())) {
             throw new WrongCredentialsException("Wrong username or password");
         }
+        if (securityService.needsRehash(employee.getPassword())) {
+            employee.setPassword(securityService.encodePassword(employeeDto.password()));
+            employeeRepository.save(employee);
+        }
+        return securityService.issueTokens(employee.toEmployeeDto());
     }
 
     @Transactional
     public LoginResponseDto refreshAccessToken(String bearerRefreshToken) {
-        String refreshToken = securityService.getAccessTokenFromBearer(bearerRefreshToken);
-        Employee employee = getEmployeeByUsername(securityService.verifyToken(refreshToken).getClaim("username").asString());
-
-        if (!employee.getRefreshToken().equals(refreshToken)) {
-            throw new WrongCredentialsException("Authorization token not provided");
-        } else if (employee.getRefreshTokenExpirationDate().isBefore(LocalDateTime.now())) {
-            throw new TokenExpiredException("Refresh token expired. Please log in again");
-        } else {
-            String newAccessToken = securityService.generateAccessToken(employee.toEmployeeDto());
-            employee.setAccessToken(newAccessToken);
-            employee.setAccessTokenExpirationDate(securityService.getTokenExpirationDate(newAccessToken));
-            employeeRepository.save(employee);
-            return new LoginResponseDto(newAccessToken, securityService.getAccessTokenFromBearer(bearerRefreshToken));
-        }
+        DecodedJWT refreshToken = securityService.verifyRefreshToken(bearerRefreshToken);
+        Employee employee = employeeRepository.findById(Long.valueOf(refreshToken.getSubject()))
+                .orElseThrow(() -> new EmployeeNotExistsException("id=" + refreshToken.getSubject()));
+        checkActivate(employee.isActive(), true);
+        return securityService.rotateTokens(refreshToken, employee.toEmployeeDto());
     }
 
     @Transactional
@@ -141,7 +129,6 @@ public class EmployeeService {
         }
     }
 
-    @Transactional
     public void changePassword(ChangePasswordDto changePasswordDto) {
         if (changePasswordDto.username().isBlank() || changePasswordDto.newPassword().isBlank() || changePasswordDto.oldPassword().isBlank()) {
             throw new EmptyDataException();
@@ -153,8 +140,16 @@ public class EmployeeService {
         } else throw new WrongCredentialsException("Incorrect password");
     }
 
+    public PasswordHashStats getPasswordHashStats() {
+        return securityService.getPasswordHashStats();
+    }
+
     public Role getEmployeeRoleByEmployeeId(long employeeId){
-        Employee employee = employeeRepository.findById(employeeId).orElseThrow(()-> new EmployeeNotExistsException("Employee"));
-        return employee.getRole();
+        AuthenticatedEmployee authenticatedEmployee = securityService.getAuthenticatedEmployee()
+                .orElseThrow(() -> new IncorrectTokenDataException("Access token not provided"));
+        if (authenticatedEmployee.id() != employeeId) {
+            throw new AccessDeniedException();
+        }
+        return authenticatedEmployee.role();
     }
 }
@@ -0,0 +1,6 @@
+package Warehouse.WarehouseManager.enums;
+
+public enum BufferOverflowPolicy {
+    DROP_NEWEST,
+    REJECT;
+}
@@ -0,0 +1,59 @@
+package Warehouse.WarehouseManager.enums;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+import java.security.*;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+
+public enum JwtSigningAlgorithm {
+    RS256("RSA") {
+        @Override
+        public Algorithm toAlgorithm(PublicKey publicKey, PrivateKey privateKey) {
+            return Algorithm.RSA256((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+        }
+
+        @Override
+        protected void initialize(KeyPairGenerator keyPairGenerator) {
+            keyPairGenerator.initialize(2048);
+        }
+    },
+    ES256("EC") {
+        @Override
+        public Algorithm toAlgorithm(PublicKey publicKey, PrivateKey privateKey) {
+            return Algorithm.ECDSA256((ECPublicKey) publicKey, (ECPrivateKey) privateKey);
+        }
+
+        @Override
+        protected void initialize(KeyPairGenerator keyPairGenerator) throws InvalidAlgorithmParameterException {
+            keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+    };
+
+    private final String keyAlgorithm;
+
+    JwtSigningAlgorithm(String keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public abstract Algorithm toAlgorithm(PublicKey publicKey, PrivateKey privateKey);
+
+    protected abstract void initialize(KeyPairGenerator keyPairGenerator) throws InvalidAlgorithmParameterException;
+
+    public KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(keyAlgorithm);
+            initialize(keyPairGenerator);
+            return keyPairGenerator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate " + name() + " key pair", e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package Warehouse.WarehouseManager.enums;
+
+public enum ProductSearchMode {
+    PREFIX,
+    FUZZY;
+}
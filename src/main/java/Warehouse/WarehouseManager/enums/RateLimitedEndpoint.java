@@ -0,0 +1,7 @@
+package Warehouse.WarehouseManager.enums;
+
+public enum RateLimitedEndpoint {
+    LOGIN,
+    REFRESH_TOKEN,
+    REGISTRATION;
+}
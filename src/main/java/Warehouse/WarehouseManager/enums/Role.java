@@ -1,42 +1,49 @@
 package Warehouse.WarehouseManager.enums;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.EnumMap;
-import java.util.List;
-
 public enum Role {
-    ADMIN(new EnumMap<>(WarehouseSystemOperation.class) {{
-        put(WarehouseSystemOperation.ADD, Arrays.asList(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE));
-        put(WarehouseSystemOperation.RECEIVE, Arrays.asList(Resource.WAREHOUSE_OPERATION));
-        put(WarehouseSystemOperation.RELEASE,Arrays.asList(Resource.WAREHOUSE_OPERATION));
-        put(WarehouseSystemOperation.STORE, Arrays.asList(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE));
-        put(WarehouseSystemOperation.MODIFY, Arrays.asList(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE));
-        put(WarehouseSystemOperation.REMOVAL, Arrays.asList(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE));
-    }}),
-    BUSINESS_OWNER(new EnumMap<>(WarehouseSystemOperation.class) {{
-        put(WarehouseSystemOperation.ADD, Arrays.asList(Resource.PRODUCT));
-        put(WarehouseSystemOperation.RECEIVE, Arrays.asList(Resource.WAREHOUSE_OPERATION));
-        put(WarehouseSystemOperation.RELEASE,Arrays.asList(Resource.WAREHOUSE_OPERATION));
-        put(WarehouseSystemOperation.STORE, Arrays.asList(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION));
-        put(WarehouseSystemOperation.MODIFY, Arrays.asList(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION));
-        put(WarehouseSystemOperation.REMOVAL, Arrays.asList(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION));
-    }}),
-    WAREHOUSE_OPERATOR(new EnumMap<>(WarehouseSystemOperation.class) {{
-        put(WarehouseSystemOperation.RECEIVE, Arrays.asList(Resource.WAREHOUSE_OPERATION));
-        put(WarehouseSystemOperation.RELEASE,Arrays.asList(Resource.WAREHOUSE_OPERATION));
-    }});
-
-    private EnumMap<WarehouseSystemOperation, List<Resource>> userAccess;
-
-    Role(EnumMap<WarehouseSystemOperation, List<Resource>> userAccess) {
-        this.userAccess = userAccess;
+    ADMIN(grant(WarehouseSystemOperation.ADD, Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE)
+            | grant(WarehouseSystemOperation.RECEIVE, Resource.WAREHOUSE_OPERATION)
+            | grant(WarehouseSystemOperation.RELEASE, Resource.WAREHOUSE_OPERATION)
+            | grant(WarehouseSystemOperation.STORE, Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE)
+            | grant(WarehouseSystemOperation.MODIFY, Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE)
+            | grant(WarehouseSystemOperation.REMOVAL, Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE)),
+    BUSINESS_OWNER(grant(WarehouseSystemOperation.ADD, Resource.PRODUCT)
+            | grant(WarehouseSystemOperation.RECEIVE, Resource.WAREHOUSE_OPERATION)
+            | grant(WarehouseSystemOperation.RELEASE, Resource.WAREHOUSE_OPERATION)
+            | grant(WarehouseSystemOperation.STORE, Resource.PRODUCT, Resource.WAREHOUSE_OPERATION)
+            | grant(WarehouseSystemOperation.MODIFY, Resource.PRODUCT, Resource.WAREHOUSE_OPERATION)
+            | grant(WarehouseSystemOperation.REMOVAL, Resource.PRODUCT, Resource.WAREHOUSE_OPERATION)),
+    WAREHOUSE_OPERATOR(grant(WarehouseSystemOperation.RECEIVE, Resource.WAREHOUSE_OPERATION)
+            | grant(WarehouseSystemOperation.RELEASE, Resource.WAREHOUSE_OPERATION));
+
+    // one bit per (operation, resource) pair; 8 operations x 8 resources fit in a long
+    private static final int RESOURCE_BITS = 8;
+
+    static {
+        if (Resource.values().length > RESOURCE_BITS || WarehouseSystemOperation.values().length * RESOURCE_BITS > Long.SIZE) {
+            throw new IllegalStateException("Permission bits of every operation and resource must fit in a long");
+        }
+    }
+
+    private final long defaultPermissions;
+
+    Role(long defaultPermissions) {
+        this.defaultPermissions = defaultPermissions;
     }
 
     public boolean hasAccessTo(WarehouseSystemOperation operation, Resource resource) {
-        return userAccess.getOrDefault(operation, Collections.emptyList()).stream()
-                .anyMatch(resource1 -> resource1 == resource);
+        return (defaultPermissions & permissionBit(operation, resource)) != 0;
     }
 
+    public static long permissionBit(WarehouseSystemOperation operation, Resource resource) {
+        return 1L << (operation.ordinal() * RESOURCE_BITS + resource.ordinal());
+    }
 
+    public static long grant(WarehouseSystemOperation operation, Resource... resources) {
+        long permissions = 0L;
+        for (Resource resource : resources) {
+            permissions |= permissionBit(operation, resource);
+        }
+        return permissions;
+    }
 }
@@ -0,0 +1,21 @@
+package Warehouse.WarehouseManager.enums;
+
+import java.nio.charset.StandardCharsets;
+
+public enum WireFormat {
+    JSON,
+    BINARY;
+
+    public static final String HEADER = "wire-format";
+
+    public static WireFormat fromHeader(byte[] headerValue) {
+        if (headerValue == null || headerValue.length == 0) {
+            return JSON;
+        }
+        return WireFormat.valueOf(new String(headerValue, StandardCharsets.US_ASCII));
+    }
+
+    public byte[] toHeader() {
+        return name().getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,11 @@
+package Warehouse.WarehouseManager.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingUnavailableException extends RuntimeException {
+    public PasswordHashingUnavailableException(final String message) {
+        super(message);
+    }
+}
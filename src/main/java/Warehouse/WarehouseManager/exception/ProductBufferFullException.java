@@ -0,0 +1,7 @@
+package Warehouse.WarehouseManager.exception;
+
+public class ProductBufferFullException extends RuntimeException {
+    public ProductBufferFullException(final int capacity) {
+        super("Product event buffer is full (capacity=" + capacity + ")");
+    }
+}
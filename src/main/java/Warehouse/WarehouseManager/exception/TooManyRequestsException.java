@@ -0,0 +1,26 @@
+package Warehouse.WarehouseManager.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class TooManyRequestsException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(final String message, final long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,11 @@
+package Warehouse.WarehouseManager.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class WarehouseTaskConflictException extends RuntimeException {
+    public WarehouseTaskConflictException() {
+        super("Warehouse was modified concurrently, please retry");
+    }
+}
@@ -0,0 +1,49 @@
+package Warehouse.WarehouseManager.export;
+
+import Warehouse.WarehouseManager.enums.Resource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private ExportService exportService;
+
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/products/{employeeId}")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@PathVariable long employeeId) {
+        exportService.checkExportAccess(employeeId, Resource.PRODUCT);
+        return ResponseEntity.ok().contentType(NDJSON).body(exportService::exportProducts);
+    }
+
+    @GetMapping("/stock/{employeeId}")
+    public ResponseEntity<StreamingResponseBody> exportStocks(@PathVariable long employeeId) {
+        exportService.checkExportAccess(employeeId, Resource.PRODUCT);
+        return ResponseEntity.ok().contentType(NDJSON).body(exportService::exportStocks);
+    }
+
+    @GetMapping("/tasks/{employeeId}")
+    public ResponseEntity<StreamingResponseBody> exportWarehouseTasks(@PathVariable long employeeId) {
+        exportService.checkExportAccess(employeeId, Resource.WAREHOUSE_OPERATION);
+        return ResponseEntity.ok().contentType(NDJSON).body(exportService::exportWarehouseTasks);
+    }
+
+    @GetMapping("/tasks/archive/{employeeId}")
+    public ResponseEntity<StreamingResponseBody> exportArchivedWarehouseTasks(@PathVariable long employeeId) {
+        exportService.checkExportAccess(employeeId, Resource.WAREHOUSE_OPERATION);
+        return ResponseEntity.ok().contentType(NDJSON).body(exportService::exportArchivedWarehouseTasks);
+    }
+}
@@ -0,0 +1,90 @@
+package Warehouse.WarehouseManager.export;
+
+import Warehouse.WarehouseManager.employee.EmployeeService;
+import Warehouse.WarehouseManager.enums.Resource;
+import Warehouse.WarehouseManager.enums.WarehouseSystemOperation;
+import Warehouse.WarehouseManager.product.ProductRepository;
+import Warehouse.WarehouseManager.security.SecurityService;
+import Warehouse.WarehouseManager.stock.StockRepository;
+import Warehouse.WarehouseManager.warehouse.ArchivedWarehouseTaskRepository;
+import Warehouse.WarehouseManager.warehouse.WarehouseTaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ProductRepository productRepository;
+    private StockRepository stockRepository;
+    private WarehouseTaskRepository warehouseTaskRepository;
+    private ArchivedWarehouseTaskRepository archivedWarehouseTaskRepository;
+    private SecurityService securityService;
+    private EmployeeService employeeService;
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    public ExportService(ProductRepository productRepository, StockRepository stockRepository
+            , WarehouseTaskRepository warehouseTaskRepository, ArchivedWarehouseTaskRepository archivedWarehouseTaskRepository
+            , SecurityService securityService, EmployeeService employeeService, ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.stockRepository = stockRepository;
+        this.warehouseTaskRepository = warehouseTaskRepository;
+        this.archivedWarehouseTaskRepository = archivedWarehouseTaskRepository;
+        this.securityService = securityService;
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+    }
+
+    public void checkExportAccess(long employeeId, Resource resource) {
+        securityService.checkEmployeeAccess(employeeService.getEmployeeRoleByEmployeeId(employeeId)
+                , WarehouseSystemOperation.STORE, resource);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportProducts(OutputStream outputStream) throws IOException {
+        try (Stream<?> products = productRepository.streamAllProducts()) {
+            writeNdjson(products, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportStocks(OutputStream outputStream) throws IOException {
+        try (Stream<?> stocks = stockRepository.streamAllStocks()) {
+            writeNdjson(stocks, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportWarehouseTasks(OutputStream outputStream) throws IOException {
+        try (Stream<?> warehouseTasks = warehouseTaskRepository.streamAllTasks()) {
+            writeNdjson(warehouseTasks, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportArchivedWarehouseTasks(OutputStream outputStream) throws IOException {
+        try (Stream<?> archivedTasks = archivedWarehouseTaskRepository.streamAllArchivedTasks()) {
+            writeNdjson(archivedTasks, outputStream);
+        }
+    }
+
+    private void writeNdjson(Stream<?> rows, OutputStream outputStream) throws IOException {
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        Iterator<?> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            bufferedOutputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+            bufferedOutputStream.write('\n');
+        }
+        bufferedOutputStream.flush();
+    }
+}
@@ -0,0 +1,22 @@
+package Warehouse.WarehouseManager.job;
+
+import Warehouse.WarehouseManager.warehouse.WarehouseTaskArchiveService;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArchiveWarehouseTasksJob implements Job {
+    private WarehouseTaskArchiveService warehouseTaskArchiveService;
+
+    @Autowired
+    public ArchiveWarehouseTasksJob(WarehouseTaskArchiveService warehouseTaskArchiveService) {
+        this.warehouseTaskArchiveService = warehouseTaskArchiveService;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        warehouseTaskArchiveService.archiveCompletedTasks();
+    }
+}
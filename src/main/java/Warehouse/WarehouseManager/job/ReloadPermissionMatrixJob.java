@@ -0,0 +1,22 @@
+package Warehouse.WarehouseManager.job;
+
+import Warehouse.WarehouseManager.security.PermissionMatrixService;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReloadPermissionMatrixJob implements Job {
+    private PermissionMatrixService permissionMatrixService;
+
+    @Autowired
+    public ReloadPermissionMatrixJob(PermissionMatrixService permissionMatrixService) {
+        this.permissionMatrixService = permissionMatrixService;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        permissionMatrixService.reloadIfChanged();
+    }
+}
@@ -0,0 +1,22 @@
+package Warehouse.WarehouseManager.job;
+
+import Warehouse.WarehouseManager.security.SigningKeyService;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RotateSigningKeysJob implements Job {
+    private SigningKeyService signingKeyService;
+
+    @Autowired
+    public RotateSigningKeysJob(SigningKeyService signingKeyService) {
+        this.signingKeyService = signingKeyService;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        signingKeyService.rotateIfDue();
+    }
+}
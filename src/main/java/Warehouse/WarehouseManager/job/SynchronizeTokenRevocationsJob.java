@@ -0,0 +1,26 @@
+package Warehouse.WarehouseManager.job;
+
+import Warehouse.WarehouseManager.security.SecurityService;
+import Warehouse.WarehouseManager.security.TokenRevocationList;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SynchronizeTokenRevocationsJob implements Job {
+    private TokenRevocationList tokenRevocationList;
+    private SecurityService securityService;
+
+    @Autowired
+    public SynchronizeTokenRevocationsJob(TokenRevocationList tokenRevocationList, SecurityService securityService) {
+        this.tokenRevocationList = tokenRevocationList;
+        this.securityService = securityService;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        tokenRevocationList.synchronize();
+        securityService.deleteExpiredRefreshTokenFamilies();
+    }
+}
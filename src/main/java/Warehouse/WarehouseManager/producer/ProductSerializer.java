@@ -1,30 +1,61 @@
 package Warehouse.WarehouseManager.producer;
 
+import Warehouse.WarehouseManager.codec.BinaryEventWriter;
+import Warehouse.WarehouseManager.codec.ProductDtoCodec;
+import Warehouse.WarehouseManager.enums.WireFormat;
 import Warehouse.WarehouseManager.product.ProductDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
-import org.hibernate.type.SerializationException;
 
 import java.util.Map;
 
 public class ProductSerializer implements Serializer<ProductDto> {
+
+    public static final String WIRE_FORMAT_CONFIG = "product.wire-format";
+
+    private static final ThreadLocal<BinaryEventWriter> WRITERS = ThreadLocal.withInitial(() -> new BinaryEventWriter(64));
+
     private ObjectMapper objectMapper = new ObjectMapper();
+    private WireFormat wireFormat = WireFormat.JSON;
 
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
+        Object configuredWireFormat = configs.get(WIRE_FORMAT_CONFIG);
+        if (configuredWireFormat != null) {
+            wireFormat = WireFormat.valueOf(configuredWireFormat.toString());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, ProductDto productDto) {
+        if (productDto == null) {
+            return null;
+        }
+        headers.remove(WireFormat.HEADER);
+        headers.add(WireFormat.HEADER, wireFormat.toHeader());
+        return serialize(productDto, wireFormat);
     }
 
     @Override
     public byte[] serialize(String topic, ProductDto productDto) {
-        try{
-            if(productDto == null){
-                System.out.println("Null received at serializing");
-                return null;
+        if (productDto == null) {
+            return null;
+        }
+        return serialize(productDto, WireFormat.JSON);
+    }
+
+    private byte[] serialize(ProductDto productDto, WireFormat format) {
+        try {
+            if (format == WireFormat.BINARY) {
+                BinaryEventWriter writer = WRITERS.get().reset();
+                ProductDtoCodec.encode(productDto, writer);
+                return writer.toByteArray();
             }
-            System.out.println("Serializing...");
             return objectMapper.writeValueAsBytes(productDto);
-        }catch(Exception message){
-            throw new SerializationException("Error when serializing MessageDto to byte[]", message);
+        } catch (Exception message) {
+            throw new SerializationException("Error when serializing ProductDto to byte[]", message);
         }
     }
 
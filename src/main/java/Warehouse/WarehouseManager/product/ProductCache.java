@@ -0,0 +1,162 @@
+package Warehouse.WarehouseManager.product;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ProductCache {
+
+    private final ProductRepository productRepository;
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<Long, CachedProduct> productsById;
+    private final Map<String, CachedProduct> productsByName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long invalidations;
+
+    @Autowired
+    public ProductCache(ProductRepository productRepository
+            , @Value("${product.cache.maximum-size:10000}") int maximumSize
+            , @Value("${product.cache.ttl-seconds:300}") long timeToLiveSeconds) {
+        this(productRepository, maximumSize, Duration.ofSeconds(timeToLiveSeconds), Clock.systemUTC());
+    }
+
+    public ProductCache(ProductRepository productRepository, int maximumSize, Duration timeToLive, Clock clock) {
+        this.productRepository = productRepository;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.productsById = boundedMap();
+        this.productsByName = boundedMap();
+    }
+
+    public Optional<ProductDto> findById(long productId) {
+        ProductDto cachedProduct = getIfPresent(productsById, productId);
+        if (cachedProduct != null) {
+            return Optional.of(cachedProduct);
+        }
+        long invalidationsBeforeLoad = getInvalidations();
+        Optional<ProductDto> product = productRepository.findById(productId).map(Product::toProductDto);
+        product.ifPresent(loadedProduct -> put(loadedProduct, invalidationsBeforeLoad));
+        return product;
+    }
+
+    public Optional<ProductDto> findByName(String name) {
+        ProductDto cachedProduct = getIfPresent(productsByName, name);
+        if (cachedProduct != null) {
+            return Optional.of(cachedProduct);
+        }
+        long invalidationsBeforeLoad = getInvalidations();
+        Optional<ProductDto> product = productRepository.findByName(name).map(Product::toProductDto);
+        product.ifPresent(loadedProduct -> put(loadedProduct, invalidationsBeforeLoad));
+        return product;
+    }
+
+    public Map<Long, ProductDto> findAllById(Collection<Long> productIds) {
+        Map<Long, ProductDto> products = new HashMap<>();
+        List<Long> missingProductIds = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductDto cachedProduct = getIfPresent(productsById, productId);
+            if (cachedProduct != null) {
+                products.put(productId, cachedProduct);
+            } else {
+                missingProductIds.add(productId);
+            }
+        }
+        if (!missingProductIds.isEmpty()) {
+            long invalidationsBeforeLoad = getInvalidations();
+            productRepository.findAllById(missingProductIds).stream().map(Product::toProductDto).forEach(product -> {
+                put(product, invalidationsBeforeLoad);
+                products.put(product.id(), product);
+            });
+        }
+        return products;
+    }
+
+    public void invalidate(Long productId, String... names) {
+        evict(productId, names);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(productId, names);
+                }
+            });
+        }
+    }
+
+    public synchronized ProductCacheStats getStats() {
+        return new ProductCacheStats(hits.sum(), misses.sum(), evictions.sum(), productsById.size());
+    }
+
+    private synchronized <K> ProductDto getIfPresent(Map<K, CachedProduct> products, K key) {
+        CachedProduct cachedProduct = products.get(key);
+        if (cachedProduct == null) {
+            misses.increment();
+            return null;
+        }
+        if (cachedProduct.isExpired(clock.instant())) {
+            products.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cachedProduct.product();
+    }
+
+    private synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    // a load that overlapped an invalidation may have read the old row, so it is returned but not cached
+    private synchronized void put(ProductDto product, long invalidationsBeforeLoad) {
+        if (invalidations != invalidationsBeforeLoad) {
+            return;
+        }
+        CachedProduct cachedProduct = new CachedProduct(product, clock.instant().plus(timeToLive));
+        productsById.put(product.id(), cachedProduct);
+        productsByName.put(product.name(), cachedProduct);
+    }
+
+    private synchronized void evict(Long productId, String... names) {
+        invalidations++;
+        if (productId != null) {
+            productsById.remove(productId);
+        }
+        for (String name : names) {
+            productsByName.remove(name);
+        }
+    }
+
+    private <K> Map<K, CachedProduct> boundedMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedProduct> eldest) {
+                if (size() > maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private record CachedProduct(ProductDto product, Instant expiresAt) {
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
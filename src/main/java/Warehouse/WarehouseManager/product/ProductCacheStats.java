@@ -0,0 +1,4 @@
+package Warehouse.WarehouseManager.product;
+
+public record ProductCacheStats(long hits, long misses, long evictions, int size) {
+}
@@ -1,7 +1,11 @@
 package Warehouse.WarehouseManager.product;
 
+import Warehouse.WarehouseManager.consumer.ProductConsumer;
+import Warehouse.WarehouseManager.consumer.ProductEventBufferStats;
+import Warehouse.WarehouseManager.enums.ProductSearchMode;
 import Warehouse.WarehouseManager.enums.ProductSize;
 import Warehouse.WarehouseManager.reportgenerator.PDFReportGenerator;
+import Warehouse.WarehouseManager.stock.StockAvailability;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,10 +17,12 @@ import java.util.List;
 public class ProductController {
 
     private ProductService productService;
+    private ProductConsumer productConsumer;
 
     @Autowired
-    public ProductController(ProductService productService,PDFReportGenerator pdfReportGenerator) {
+    public ProductController(ProductService productService,PDFReportGenerator pdfReportGenerator,ProductConsumer productConsumer) {
         this.productService = productService;
+        this.productConsumer = productConsumer;
     }
 
     @GetMapping("/{employeeId}")
@@ -24,12 +30,46 @@ public class ProductController {
         return ResponseEntity.ok(productService.getDtoProductList(employeeId));
     }
 
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ProductCacheStats> getProductCacheStats(){
+        return ResponseEntity.ok(productService.getProductCacheStats());
+    }
+
+    @GetMapping("/consumer/stats")
+    public ResponseEntity<ProductEventBufferStats> getProductConsumerStats(){
+        return ResponseEntity.ok(productConsumer.getBufferStats());
+    }
+
     @GetMapping("/{productName}/{employeeId}")
     public ResponseEntity<ProductDto> getProductByProductName(@PathVariable String productName
             ,@PathVariable long employeeId){
         return ResponseEntity.ok(productService.getProductDtoByProductName(productName,employeeId));
     }
 
+    @GetMapping("/{productName}/{employeeId}/availability")
+    public ResponseEntity<List<StockAvailability>> getProductAvailability(@PathVariable String productName
+            ,@PathVariable long employeeId){
+        return ResponseEntity.ok(productService.getProductAvailability(productName,employeeId));
+    }
+
+    @GetMapping("/{employeeId}/page")
+    public ResponseEntity<ProductPage> getProductPage(@PathVariable long employeeId
+            ,@RequestParam(required = false) Long afterId
+            ,@RequestParam(defaultValue = "50") int pageSize
+            ,@RequestParam(required = false) ProductSize size
+            ,@RequestParam(required = false) String namePrefix){
+        return ResponseEntity.ok(productService.getProductPage(employeeId,afterId,pageSize,size,namePrefix));
+    }
+
+    @GetMapping("/{employeeId}/search")
+    public ResponseEntity<List<ProductDto>> searchProducts(@PathVariable long employeeId
+            ,@RequestParam String query
+            ,@RequestParam(defaultValue = "PREFIX") ProductSearchMode mode
+            ,@RequestParam(required = false) ProductSize size
+            ,@RequestParam(defaultValue = "20") int limit){
+        return ResponseEntity.ok(productService.searchProducts(employeeId,query,mode,size,limit));
+    }
+
     @GetMapping("/{employeeId}/size")
     public ResponseEntity<List<ProductDto>> getProductListByProductSize(@RequestBody ProductSize size
             ,@PathVariable long employeeId){
@@ -0,0 +1,6 @@
+package Warehouse.WarehouseManager.product;
+
+import java.util.List;
+
+public record ProductPage(List<ProductDto> products, Long nextAfterId) {
+}
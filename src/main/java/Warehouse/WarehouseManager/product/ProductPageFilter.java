@@ -0,0 +1,27 @@
+package Warehouse.WarehouseManager.product;
+
+import Warehouse.WarehouseManager.enums.ProductSize;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record ProductPageFilter(ProductSize size, String namePattern) {
+
+    public Specification<Product> toSpecification(Long afterId) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (afterId != null) {
+                predicates.add(criteriaBuilder.greaterThan(root.get("id"), afterId));
+            }
+            if (size != null) {
+                predicates.add(criteriaBuilder.equal(root.get("size"), size));
+            }
+            if (namePattern != null) {
+                predicates.add(criteriaBuilder.like(root.get("name"), namePattern, '\\'));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package Warehouse.WarehouseManager.product;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ProductProjectionRepository {
+    List<ProductDto> findProductDtos(Specification<Product> specification, Sort sort, int limit);
+}
@@ -0,0 +1,29 @@
+package Warehouse.WarehouseManager.product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+public class ProductProjectionRepositoryImpl implements ProductProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductDto> findProductDtos(Specification<Product> specification, Sort sort, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductDto> query = criteriaBuilder.createQuery(ProductDto.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(criteriaBuilder.construct(ProductDto.class, root.get("id"), root.get("name"), root.get("size")))
+                .where(specification.toPredicate(root, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
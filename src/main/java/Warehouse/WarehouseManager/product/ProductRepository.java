@@ -1,15 +1,34 @@
 package Warehouse.WarehouseManager.product;
 
 import Warehouse.WarehouseManager.enums.ProductSize;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product,Long> {
+public interface ProductRepository extends JpaRepository<Product,Long>, ProductProjectionRepository {
     Optional<Product> findByName(String name);
     List<Product> findBySize(ProductSize size);
     boolean existsByName(String name);
+
+    @Query(value = "SELECT p.id AS id, p.product_name AS name, p.product_size AS size FROM product p " +
+            "WHERE p.product_name % :query ORDER BY p.product_name <-> :query LIMIT :limit", nativeQuery = true)
+    List<ProductSearchHit> searchBySimilarity(String query, int limit);
+
+    @Query(value = "SELECT p.id AS id, p.product_name AS name, p.product_size AS size FROM product p " +
+            "WHERE p.product_name % :query AND p.product_size = :size " +
+            "ORDER BY p.product_name <-> :query LIMIT :limit", nativeQuery = true)
+    List<ProductSearchHit> searchBySimilarityAndSize(String query, String size, int limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new Warehouse.WarehouseManager.product.ProductDto(p.id, p.name, p.size) FROM Product p ORDER BY p.id")
+    Stream<ProductDto> streamAllProducts();
 }
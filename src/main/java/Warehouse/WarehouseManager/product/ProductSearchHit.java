@@ -0,0 +1,9 @@
+package Warehouse.WarehouseManager.product;
+
+public interface ProductSearchHit {
+    Long getId();
+
+    String getName();
+
+    String getSize();
+}
@@ -2,10 +2,12 @@ package Warehouse.WarehouseManager.product;
 
 import Warehouse.WarehouseManager.consumer.ProductConsumer;
 import Warehouse.WarehouseManager.employee.EmployeeService;
+import Warehouse.WarehouseManager.enums.ProductSearchMode;
 import Warehouse.WarehouseManager.enums.ProductSize;
 import Warehouse.WarehouseManager.enums.Resource;
 import Warehouse.WarehouseManager.enums.Role;
 import Warehouse.WarehouseManager.enums.WarehouseSystemOperation;
+import Warehouse.WarehouseManager.exception.IllegalDataException;
 import Warehouse.WarehouseManager.exception.ProductAlreadyExistsException;
 import Warehouse.WarehouseManager.exception.ProductNotExistsException;
 import Warehouse.WarehouseManager.exception.ProductQuantityException;
@@ -13,8 +15,10 @@ import Warehouse.WarehouseManager.exception.StockNotExistsException;
 import Warehouse.WarehouseManager.reportgenerator.PDFReportGenerator;
 import Warehouse.WarehouseManager.security.SecurityService;
 import Warehouse.WarehouseManager.stock.Stock;
+import Warehouse.WarehouseManager.stock.StockAvailability;
 import Warehouse.WarehouseManager.stock.StockRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +30,8 @@ public class ProductService {
 
     private ProductRepository productRepository;
 
+    private ProductCache productCache;
+
     private StockRepository stockRepository;
 
     private SecurityService securityService;
@@ -36,11 +42,16 @@ public class ProductService {
 
     private final String TOPIC_NAME = "new-topic";
 
+    private static final int MAX_PRODUCT_PAGE_SIZE = 500;
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+
 
     @Autowired
-    public ProductService(ProductRepository productRepository, StockRepository stockRepository
+    public ProductService(ProductRepository productRepository, ProductCache productCache, StockRepository stockRepository
             ,SecurityService securityService, EmployeeService employeeService,KafkaTemplate kafkaTemplate) {
         this.productRepository = productRepository;
+        this.productCache = productCache;
         this.stockRepository = stockRepository;
         this.securityService = securityService;
         this.employeeService = employeeService;
@@ -53,13 +64,44 @@ public class ProductService {
         return productRepository.findAll().stream().map(Product::toProductDto).toList();
     }
 
-    @Transactional
+    public ProductPage getProductPage(long employeeId, Long afterId, int pageSize, ProductSize size, String namePrefix){
+        Role role = employeeService.getEmployeeRoleByEmployeeId(employeeId);
+        securityService.checkEmployeeAccess(role,WarehouseSystemOperation.STORE,Resource.PRODUCT);
+        if(pageSize < 1 || pageSize > MAX_PRODUCT_PAGE_SIZE){
+            throw new IllegalDataException("Page size must be between 1 and " + MAX_PRODUCT_PAGE_SIZE);
+        }
+        String namePattern = namePrefix == null || namePrefix.isEmpty() ? null : escapeLikePattern(namePrefix) + "%";
+        List<ProductDto> products = productRepository.findProductDtos(new ProductPageFilter(size, namePattern)
+                .toSpecification(afterId), Sort.by("id"), pageSize);
+        Long nextAfterId = products.size() == pageSize ? products.get(pageSize - 1).id() : null;
+        return new ProductPage(products, nextAfterId);
+    }
+
+    public List<ProductDto> searchProducts(long employeeId, String query, ProductSearchMode mode, ProductSize size, int limit){
+        Role role = employeeService.getEmployeeRoleByEmployeeId(employeeId);
+        securityService.checkEmployeeAccess(role,WarehouseSystemOperation.STORE,Resource.PRODUCT);
+        if(query == null || query.isBlank()){
+            throw new IllegalDataException("Search query must not be blank");
+        }
+        if(limit < 1 || limit > MAX_SEARCH_LIMIT){
+            throw new IllegalDataException("Search limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if(mode == ProductSearchMode.FUZZY){
+            List<ProductSearchHit> hits = size == null ? productRepository.searchBySimilarity(query, limit)
+                    : productRepository.searchBySimilarityAndSize(query, size.name(), limit);
+            return hits.stream()
+                    .map(hit -> new ProductDto(hit.getId(), hit.getName(), ProductSize.valueOf(hit.getSize())))
+                    .toList();
+        }
+        return productRepository.findProductDtos(new ProductPageFilter(size, escapeLikePattern(query) + "%")
+                .toSpecification(null), Sort.by("name"), limit);
+    }
+
     public ProductDto getProductDtoByProductName(String name, long employeeId){
         Role role = employeeService.getEmployeeRoleByEmployeeId(employeeId);
         securityService.checkEmployeeAccess(role,WarehouseSystemOperation.STORE,Resource.PRODUCT);
-        Product product = productRepository.findByName(name)
+        return productCache.findByName(name)
                 .orElseThrow(() -> new ProductNotExistsException(name));
-        return product.toProductDto();
     }
 
     @Transactional
@@ -81,6 +123,7 @@ public class ProductService {
         product.setName(productDto.name());
         product.setSize(productDto.size());
         kafkaTemplate.send(TOPIC_NAME,product.toProductDto());
+        productCache.invalidate(null, productDto.name());
         return productRepository.save(product).toProductDto();
     }
 
@@ -90,6 +133,7 @@ public class ProductService {
         securityService.checkEmployeeAccess(role,WarehouseSystemOperation.MODIFY,Resource.PRODUCT);
         Product product = productRepository
                 .findByName(productName).orElseThrow(()-> new ProductNotExistsException(productName));
+        productCache.invalidate(product.getId(), productName, productDto.name());
         product.setName(productDto.name());
         return productRepository.save(product).toProductDto();
     }
@@ -101,17 +145,35 @@ public class ProductService {
         securityService.checkEmployeeAccess(role,WarehouseSystemOperation.REMOVAL,Resource.PRODUCT);
         Product product = productRepository
                 .findByName(productName).orElseThrow(()-> new ProductNotExistsException(productName));
-        if(checkProductQuantity(productName)){
+        List<Stock> stocks = stockRepository.findStocksByProductName(productName);
+        if(checkProductQuantity(stocks)){
                 throw new ProductQuantityException();
             }
-        Stock stock = stockRepository.findStockByProductName(productName).orElseThrow(StockNotExistsException::new);
-        stockRepository.delete(stock);
+        if(stocks.isEmpty()){
+            throw new StockNotExistsException();
+        }
+        stockRepository.deleteAll(stocks);
+        productCache.invalidate(product.getId(), productName);
         productRepository.delete(product);
     }
 
-    private boolean checkProductQuantity(String productName){
-        return stockRepository.findStockByProductName(productName)
-                .map(stock -> stock.getQuantity() > 0)
-                .orElse(false);
+    public List<StockAvailability> getProductAvailability(String productName, long employeeId){
+        Role role = employeeService.getEmployeeRoleByEmployeeId(employeeId);
+        securityService.checkEmployeeAccess(role,WarehouseSystemOperation.STORE,Resource.PRODUCT);
+        ProductDto product = productCache.findByName(productName)
+                .orElseThrow(() -> new ProductNotExistsException(productName));
+        return stockRepository.findAvailabilityByProductId(product.id());
+    }
+
+    public ProductCacheStats getProductCacheStats(){
+        return productCache.getStats();
+    }
+
+    private String escapeLikePattern(String value){
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private boolean checkProductQuantity(List<Stock> stocks){
+        return stocks.stream().anyMatch(stock -> stock.getQuantity() > 0);
     }
 }
@@ -0,0 +1,6 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.enums.Role;
+
+public record AuthenticatedEmployee(long id, String username, Role role, long permissionVersion) {
+}
@@ -0,0 +1,33 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.exception.IncorrectTokenDataException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class AuthenticationInterceptor implements HandlerInterceptor {
+
+    private final SecurityService securityService;
+
+    public AuthenticationInterceptor(final SecurityService securityService) {
+        this.securityService = securityService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())
+                || request.getAttribute(SecurityService.AUTHENTICATED_EMPLOYEE_ATTRIBUTE) != null) {
+            return true;
+        }
+        String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (bearerToken == null || bearerToken.isBlank()) {
+            throw new IncorrectTokenDataException("Access token not provided");
+        }
+        request.setAttribute(SecurityService.AUTHENTICATED_EMPLOYEE_ATTRIBUTE, securityService.authenticate(bearerToken));
+        return true;
+    }
+}
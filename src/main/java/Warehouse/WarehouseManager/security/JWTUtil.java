@@ -2,64 +2,82 @@ package Warehouse.WarehouseManager.security;
 
 import Warehouse.WarehouseManager.employee.EmployeeDto;
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.springframework.stereotype.Component;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JWTUtil {
 
-    private final RSAKeyUtil rsaKeyUtil;
-    private final Algorithm algorithm;
-    private final JWTVerifier jwtVerifier;
+    public static final String ROLE_CLAIM = "role";
+    public static final String PERMISSION_VERSION_CLAIM = "permissionVersion";
+    public static final String TOKEN_TYPE_CLAIM = "tokenType";
+    public static final String FAMILY_CLAIM = "family";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+    public static final Duration ACCESS_TOKEN_LIFETIME = Duration.ofMinutes(30);
+    public static final Duration REFRESH_TOKEN_LIFETIME = Duration.ofDays(14);
 
-    public JWTUtil(final RSAKeyUtil rsaKeyUtil) {
-        this.rsaKeyUtil = rsaKeyUtil;
-        this.algorithm = Algorithm.RSA256((RSAPublicKey) rsaKeyUtil.getPublicKey(), (RSAPrivateKey) rsaKeyUtil.getPrivateKey());
-        this.jwtVerifier = JWT.require(this.algorithm).build();
+    private final SigningKeyService signingKeyService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JWTUtil(final SigningKeyService signingKeyService, final VerifiedTokenCache verifiedTokenCache) {
+        this.signingKeyService = signingKeyService;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
-    public String createAccessToken(EmployeeDto employeeDto) {
+    public String createAccessToken(EmployeeDto employeeDto, long permissionVersion, String familyId) {
+        SigningKey signingKey = signingKeyService.getActiveKey();
         return JWT.create()
+                .withKeyId(signingKey.getKid())
+                .withJWTId(UUID.randomUUID().toString())
                 .withSubject(String.valueOf(employeeDto.id()))
                 .withClaim("username", employeeDto.username())
                 .withClaim("email", employeeDto.email())
+                .withClaim(ROLE_CLAIM, employeeDto.role().name())
+                .withClaim(PERMISSION_VERSION_CLAIM, permissionVersion)
+                .withClaim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .withClaim(FAMILY_CLAIM, familyId)
                 .withIssuedAt(Date.from(Instant.now()))
-                .withExpiresAt(Date.from(Instant.now().plusSeconds(1800)))
-                .sign(algorithm);
+                .withExpiresAt(Date.from(Instant.now().plus(ACCESS_TOKEN_LIFETIME)))
+                .sign(signingKey.getAlgorithm());
     }
 
-    public String createRefreshToken(EmployeeDto employeeDto) {
+    public String createRefreshToken(EmployeeDto employeeDto, String familyId, String tokenId) {
+        SigningKey signingKey = signingKeyService.getActiveKey();
         return JWT.create()
+                .withKeyId(signingKey.getKid())
+                .withJWTId(tokenId)
                 .withSubject(String.valueOf(employeeDto.id()))
                 .withClaim("username", employeeDto.username())
                 .withClaim("email", employeeDto.email())
+                .withClaim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .withClaim(FAMILY_CLAIM, familyId)
                 .withIssuedAt(Date.from(Instant.now()))
-                .withExpiresAt(Date.from(Instant.now().plusSeconds(1209600)))
-                .sign(algorithm);
+                .withExpiresAt(Date.from(Instant.now().plus(REFRESH_TOKEN_LIFETIME)))
+                .sign(signingKey.getAlgorithm());
     }
 
     public DecodedJWT verifyToken(String token) {
-        return jwtVerifier.verify(token);
+        return verifiedTokenCache.verify(token, this::verifySignature);
     }
 
-    public LocalDateTime getExpirationDate(DecodedJWT decodedJWT) {
-        return LocalDateTime.ofInstant(decodedJWT.getExpiresAt().toInstant(), ZoneId.systemDefault());
+    private DecodedJWT verifySignature(String token) {
+        DecodedJWT decodedJWT = JWT.decode(token);
+        return signingKeyService.getVerificationKey(decodedJWT.getKeyId()).getVerifier().verify(decodedJWT);
     }
 
     public String createActivationToken(EmployeeDto employeeDto) {
+        SigningKey signingKey = signingKeyService.getActiveKey();
         return JWT.create()
+                .withKeyId(signingKey.getKid())
                 .withSubject(employeeDto.username())
                 .withIssuedAt(Date.from(Instant.now()))
                 .withExpiresAt(Date.from(Instant.now().plusSeconds(86400)))
-                .sign(algorithm);
+                .sign(signingKey.getAlgorithm());
     }
 }
@@ -0,0 +1,27 @@
+package Warehouse.WarehouseManager.security;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+public class JwksController {
+
+    private final SigningKeyService signingKeyService;
+
+    public JwksController(final SigningKeyService signingKeyService) {
+        this.signingKeyService = signingKeyService;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> getJsonWebKeySet() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES))
+                .body(Map.of("keys", signingKeyService.getJsonWebKeys()));
+    }
+}
@@ -0,0 +1,36 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.enums.JwtSigningAlgorithm;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "jwt_signing_key")
+public class JwtSigningKey {
+    @Id
+    private String kid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JwtSigningAlgorithm algorithm;
+
+    @Column(nullable = false)
+    private String publicKey;
+
+    @Column(nullable = false)
+    private String privateKey;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant retiredAt;
+}
@@ -0,0 +1,27 @@
+package Warehouse.WarehouseManager.security;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    @Query("SELECT k FROM JwtSigningKey k WHERE k.retiredAt IS NULL OR k.retiredAt > :retiredAfter ORDER BY k.createdAt, k.kid")
+    List<JwtSigningKey> findVerificationKeys(Instant retiredAfter);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JwtSigningKey k SET k.retiredAt = :retiredAt WHERE k.retiredAt IS NULL AND k.createdAt < :createdBefore")
+    int retireKeysCreatedBefore(Instant createdBefore, Instant retiredAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM JwtSigningKey k WHERE k.retiredAt <= :retiredBefore")
+    int deleteRetiredKeys(Instant retiredBefore);
+}
@@ -0,0 +1,90 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.exception.PasswordHashingUnavailableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordHashExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder rejections = new LongAdder();
+
+    @Autowired
+    public PasswordHashExecutor(@Value("${security.password-hashing.threads:0}") int threads
+            , @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity
+            , @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public <T> T execute(Supplier<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.get();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    hashes.increment();
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulate(elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingUnavailableException("Too many password operations in progress. Please try again later");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // BCrypt ignores interrupts, so a hash already running still occupies its thread; only the queue bound caps the backlog
+            future.cancel(true);
+            rejections.increment();
+            throw new PasswordHashingUnavailableException("Password operation timed out. Please try again later");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password operation interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public PasswordHashStats getStats() {
+        long count = hashes.sum();
+        return new PasswordHashStats(count, count == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / count,
+                maxHashNanos.get() / 1_000_000.0, executor.getActiveCount(), executor.getQueue().size(),
+                queueCapacity, rejections.sum());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,5 @@
+package Warehouse.WarehouseManager.security;
+
+public record PasswordHashStats(long hashes, double averageHashMillis, double maxHashMillis, int activeHashes,
+                                int queueDepth, int queueCapacity, long rejections) {
+}
@@ -0,0 +1,32 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.enums.Resource;
+import Warehouse.WarehouseManager.enums.Role;
+import Warehouse.WarehouseManager.enums.WarehouseSystemOperation;
+
+import java.util.Map;
+
+public final class PermissionMatrix {
+
+    private final long version;
+    private final long[] permissionsByRole;
+
+    private PermissionMatrix(long version, long[] permissionsByRole) {
+        this.version = version;
+        this.permissionsByRole = permissionsByRole;
+    }
+
+    public static PermissionMatrix of(long version, Map<Role, Long> permissions) {
+        long[] permissionsByRole = new long[Role.values().length];
+        permissions.forEach((role, rolePermissions) -> permissionsByRole[role.ordinal()] = rolePermissions);
+        return new PermissionMatrix(version, permissionsByRole);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean hasAccess(Role role, WarehouseSystemOperation operation, Resource resource) {
+        return (permissionsByRole[role.ordinal()] & Role.permissionBit(operation, resource)) != 0;
+    }
+}
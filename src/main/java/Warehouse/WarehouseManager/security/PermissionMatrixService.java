@@ -0,0 +1,60 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.enums.Resource;
+import Warehouse.WarehouseManager.enums.Role;
+import Warehouse.WarehouseManager.enums.WarehouseSystemOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class PermissionMatrixService {
+
+    private static final Set<String> ROLES = names(Role.values());
+    private static final Set<String> OPERATIONS = names(WarehouseSystemOperation.values());
+    private static final Set<String> RESOURCES = names(Resource.values());
+
+    private RolePermissionRepository rolePermissionRepository;
+    private volatile PermissionMatrix permissionMatrix;
+
+    @Autowired
+    public PermissionMatrixService(RolePermissionRepository rolePermissionRepository) {
+        this.rolePermissionRepository = rolePermissionRepository;
+        this.permissionMatrix = loadPermissionMatrix(rolePermissionRepository.findPermissionMatrixVersion());
+    }
+
+    public PermissionMatrix getPermissionMatrix() {
+        return permissionMatrix;
+    }
+
+    public boolean reloadIfChanged() {
+        long version = rolePermissionRepository.findPermissionMatrixVersion();
+        if (version == permissionMatrix.getVersion()) {
+            return false;
+        }
+        permissionMatrix = loadPermissionMatrix(version);
+        return true;
+    }
+
+    private PermissionMatrix loadPermissionMatrix(long version) {
+        Map<Role, Long> permissions = new EnumMap<>(Role.class);
+        rolePermissionRepository.findAll().stream()
+                .filter(rolePermission -> ROLES.contains(rolePermission.getRole())
+                        && OPERATIONS.contains(rolePermission.getOperation())
+                        && RESOURCES.contains(rolePermission.getResource()))
+                .forEach(rolePermission -> permissions.merge(Role.valueOf(rolePermission.getRole()),
+                        Role.permissionBit(WarehouseSystemOperation.valueOf(rolePermission.getOperation()),
+                                Resource.valueOf(rolePermission.getResource())),
+                        (current, bit) -> current | bit));
+        return PermissionMatrix.of(version, permissions);
+    }
+
+    private static Set<String> names(Enum<?>[] values) {
+        return Arrays.stream(values).map(Enum::name).collect(Collectors.toUnmodifiableSet());
+    }
+}
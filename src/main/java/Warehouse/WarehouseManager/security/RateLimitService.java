@@ -0,0 +1,82 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.enums.RateLimitedEndpoint;
+import Warehouse.WarehouseManager.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class RateLimitService {
+
+    private static final String IP_KEY_PREFIX = "ip:";
+    private static final String USERNAME_KEY_PREFIX = "username:";
+
+    private final Map<RateLimitedEndpoint, TokenBucketRateLimiter> rateLimiters;
+    private final Map<RateLimitedEndpoint, LongAdder> ipRejections = new EnumMap<>(RateLimitedEndpoint.class);
+    private final Map<RateLimitedEndpoint, LongAdder> usernameRejections = new EnumMap<>(RateLimitedEndpoint.class);
+
+    @Autowired
+    public RateLimitService(@Value("${security.rate-limit.maximum-keys:100000}") int maximumKeys
+            , @Value("${security.rate-limit.login.capacity:10}") int loginCapacity
+            , @Value("${security.rate-limit.login.refill-per-minute:10}") int loginRefillPerMinute
+            , @Value("${security.rate-limit.refresh-token.capacity:20}") int refreshTokenCapacity
+            , @Value("${security.rate-limit.refresh-token.refill-per-minute:20}") int refreshTokenRefillPerMinute
+            , @Value("${security.rate-limit.registration.capacity:3}") int registrationCapacity
+            , @Value("${security.rate-limit.registration.refill-per-minute:3}") int registrationRefillPerMinute) {
+        this(Map.of(
+                RateLimitedEndpoint.LOGIN, new TokenBucketRateLimiter(loginCapacity, loginRefillPerMinute, maximumKeys, Clock.systemUTC()),
+                RateLimitedEndpoint.REFRESH_TOKEN, new TokenBucketRateLimiter(refreshTokenCapacity, refreshTokenRefillPerMinute, maximumKeys, Clock.systemUTC()),
+                RateLimitedEndpoint.REGISTRATION, new TokenBucketRateLimiter(registrationCapacity, registrationRefillPerMinute, maximumKeys, Clock.systemUTC())));
+    }
+
+    public RateLimitService(Map<RateLimitedEndpoint, TokenBucketRateLimiter> rateLimiters) {
+        this.rateLimiters = new EnumMap<>(rateLimiters);
+        for (RateLimitedEndpoint endpoint : RateLimitedEndpoint.values()) {
+            if (!this.rateLimiters.containsKey(endpoint)) {
+                throw new IllegalArgumentException("Missing rate limit for " + endpoint);
+            }
+            ipRejections.put(endpoint, new LongAdder());
+            usernameRejections.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void checkLimit(RateLimitedEndpoint endpoint, String clientIp, String username) {
+        TokenBucketRateLimiter rateLimiter = rateLimiters.get(endpoint);
+        if (clientIp != null) {
+            Duration retryAfter = rateLimiter.tryAcquire(IP_KEY_PREFIX + clientIp);
+            if (!retryAfter.isZero()) {
+                ipRejections.get(endpoint).increment();
+                throw tooManyRequests(retryAfter);
+            }
+        }
+        if (username != null && !username.isEmpty()) {
+            Duration retryAfter = rateLimiter.tryAcquire(USERNAME_KEY_PREFIX + username);
+            if (!retryAfter.isZero()) {
+                usernameRejections.get(endpoint).increment();
+                throw tooManyRequests(retryAfter);
+            }
+        }
+    }
+
+    public List<RateLimitStats> getRateLimitStats() {
+        List<RateLimitStats> rateLimitStats = new ArrayList<>();
+        rateLimiters.forEach((endpoint, rateLimiter) -> rateLimitStats.add(new RateLimitStats(endpoint,
+                rateLimiter.getCapacity(), rateLimiter.getRefillPerMinute(), ipRejections.get(endpoint).sum(),
+                usernameRejections.get(endpoint).sum(), rateLimiter.trackedKeys())));
+        return rateLimitStats;
+    }
+
+    private TooManyRequestsException tooManyRequests(Duration retryAfter) {
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return new TooManyRequestsException("Too many requests. Please try again later", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,7 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.enums.RateLimitedEndpoint;
+
+public record RateLimitStats(RateLimitedEndpoint endpoint, int capacity, int refillPerMinute, long ipRejections,
+                             long usernameRejections, int trackedKeys) {
+}
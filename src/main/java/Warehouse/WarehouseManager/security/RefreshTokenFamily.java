@@ -0,0 +1,27 @@
+package Warehouse.WarehouseManager.security;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "refresh_token_family")
+public class RefreshTokenFamily {
+    @Id
+    private String familyId;
+
+    @Column(nullable = false)
+    private String currentTokenId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
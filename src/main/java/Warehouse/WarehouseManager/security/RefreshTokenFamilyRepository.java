@@ -0,0 +1,24 @@
+package Warehouse.WarehouseManager.security;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.currentTokenId = :nextTokenId, f.expiresAt = :expiresAt " +
+            "WHERE f.familyId = :familyId AND f.currentTokenId = :currentTokenId")
+    int rotate(String familyId, String currentTokenId, String nextTokenId, Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt <= :now")
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,30 @@
+package Warehouse.WarehouseManager.security;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // committed on its own so a revocation survives the rollback of the request that detected it
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO revoked_token (token_id, expires_at, revoked_at) VALUES (:tokenId, :expiresAt, :revokedAt) " +
+            "ON CONFLICT (token_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(String tokenId, Instant expiresAt, Instant revokedAt);
+
+    @Query("SELECT t FROM RevokedToken t WHERE t.revokedAt >= :revokedFrom AND t.expiresAt > :now")
+    List<RevokedToken> findActiveRevokedSince(Instant revokedFrom, Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(Instant now);
+}
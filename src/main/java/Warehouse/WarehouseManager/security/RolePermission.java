@@ -0,0 +1,28 @@
+package Warehouse.WarehouseManager.security;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "role_permission")
+@IdClass(RolePermission.RolePermissionId.class)
+public class RolePermission {
+    @Id
+    private String role;
+
+    @Id
+    private String operation;
+
+    @Id
+    private String resource;
+
+    public record RolePermissionId(String role, String operation, String resource) implements Serializable {
+    }
+}
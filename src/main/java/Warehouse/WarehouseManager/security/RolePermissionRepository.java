@@ -0,0 +1,12 @@
+package Warehouse.WarehouseManager.security;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RolePermissionRepository extends JpaRepository<RolePermission, RolePermission.RolePermissionId> {
+
+    @Query(value = "SELECT version FROM permission_matrix_version WHERE id = 1", nativeQuery = true)
+    long findPermissionMatrixVersion();
+}
@@ -1,60 +1,123 @@
 package Warehouse.WarehouseManager.security;
 
-import Warehouse.WarehouseManager.employee.Employee;
 import Warehouse.WarehouseManager.employee.EmployeeDto;
-import Warehouse.WarehouseManager.employee.EmployeeRepository;
 import Warehouse.WarehouseManager.enums.Resource;
 import Warehouse.WarehouseManager.enums.Role;
 import Warehouse.WarehouseManager.enums.WarehouseSystemOperation;
 import Warehouse.WarehouseManager.exception.AccessDeniedException;
-import Warehouse.WarehouseManager.exception.EmployeeNotExistsException;
 import Warehouse.WarehouseManager.exception.EmptyDataException;
 import Warehouse.WarehouseManager.exception.IncorrectTokenDataException;
+import Warehouse.WarehouseManager.exception.TokenExpiredException;
+import Warehouse.WarehouseManager.exception.WrongCredentialsException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class SecurityService {
 
+    public static final String AUTHENTICATED_EMPLOYEE_ATTRIBUTE = SecurityService.class.getName() + ".AUTHENTICATED_EMPLOYEE";
+
     private final JWTUtil jwtUtil;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
-    private final EmployeeRepository employeeRepository;
+    private final PermissionMatrixService permissionMatrixService;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
 
     public SecurityService(final JWTUtil jwtUtil, final BCryptPasswordEncoder bCryptPasswordEncoder,
-                           final EmployeeRepository employeeRepository) {
+                           final PermissionMatrixService permissionMatrixService, final PasswordHashExecutor passwordHashExecutor,
+                           final TokenRevocationList tokenRevocationList, final RefreshTokenFamilyRepository refreshTokenFamilyRepository) {
         this.jwtUtil = jwtUtil;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
-        this.employeeRepository = employeeRepository;
+        this.permissionMatrixService = permissionMatrixService;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.tokenRevocationList = tokenRevocationList;
+        this.refreshTokenFamilyRepository = refreshTokenFamilyRepository;
     }
 
     public String encodePassword(String password) {
-        return bCryptPasswordEncoder.encode(password);
+        return passwordHashExecutor.execute(() -> bCryptPasswordEncoder.encode(password));
     }
 
     public boolean checkPassword(String password, String  encodedPassword) {
         if (password.isBlank() || encodedPassword.isBlank()) {
             throw new EmptyDataException();
         }
-        return bCryptPasswordEncoder.matches(password, encodedPassword);
+        return passwordHashExecutor.execute(() -> bCryptPasswordEncoder.matches(password, encodedPassword));
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        return bCryptPasswordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordHashStats getPasswordHashStats() {
+        return passwordHashExecutor.getStats();
     }
 
     public String generateActivationToken(EmployeeDto employeeDto) {
         return jwtUtil.createActivationToken(employeeDto);
     }
 
-    public String generateAccessToken(EmployeeDto employeeDto) {
-        return jwtUtil.createAccessToken(employeeDto);
+    public LoginResponseDto issueTokens(EmployeeDto employeeDto) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenFamilyRepository.save(new RefreshTokenFamily(familyId, tokenId, Instant.now().plus(JWTUtil.REFRESH_TOKEN_LIFETIME)));
+        return issueTokens(employeeDto, familyId, tokenId);
+    }
+
+    private LoginResponseDto issueTokens(EmployeeDto employeeDto, String familyId, String tokenId) {
+        return new LoginResponseDto(
+                jwtUtil.createAccessToken(employeeDto, permissionMatrixService.getPermissionMatrix().getVersion(), familyId),
+                jwtUtil.createRefreshToken(employeeDto, familyId, tokenId));
+    }
+
+    public DecodedJWT verifyRefreshToken(String bearerRefreshToken) {
+        DecodedJWT decodedJWT;
+        try {
+            decodedJWT = verifyToken(getAccessTokenFromBearer(bearerRefreshToken));
+        } catch (JWTVerificationException e) {
+            throw new IncorrectTokenDataException("Invalid refresh token");
+        }
+        if (!JWTUtil.REFRESH_TOKEN_TYPE.equals(decodedJWT.getClaim(JWTUtil.TOKEN_TYPE_CLAIM).asString())
+                || decodedJWT.getId() == null || getFamilyId(decodedJWT) == null) {
+            throw new IncorrectTokenDataException("Refresh token not provided");
+        }
+        if (tokenRevocationList.isRevoked(getFamilyId(decodedJWT))) {
+            throw new TokenExpiredException("Refresh token revoked. Please log in again");
+        }
+        return decodedJWT;
+    }
+
+    public LoginResponseDto rotateTokens(DecodedJWT refreshToken, EmployeeDto employeeDto) {
+        String familyId = getFamilyId(refreshToken);
+        String nextTokenId = UUID.randomUUID().toString();
+        // only the newest refresh token of a family may be exchanged; any other one was already used and has leaked
+        if (refreshTokenFamilyRepository.rotate(familyId, refreshToken.getId(), nextTokenId,
+                Instant.now().plus(JWTUtil.REFRESH_TOKEN_LIFETIME)) == 0) {
+            revokeTokenFamily(familyId);
+            throw new WrongCredentialsException("Refresh token has already been used. Please log in again");
+        }
+        return issueTokens(employeeDto, familyId, nextTokenId);
+    }
+
+    public void revokeTokenFamily(String familyId) {
+        tokenRevocationList.revoke(familyId, Instant.now().plus(JWTUtil.REFRESH_TOKEN_LIFETIME));
     }
 
-    public String generateRefreshToken(EmployeeDto employeeDto) {
-        return jwtUtil.createRefreshToken(employeeDto);
+    public String getFamilyId(DecodedJWT decodedJWT) {
+        return decodedJWT.getClaim(JWTUtil.FAMILY_CLAIM).asString();
     }
 
-    public LocalDateTime getTokenExpirationDate(String token) {
-        return jwtUtil.getExpirationDate(verifyToken(token));
+    public int deleteExpiredRefreshTokenFamilies() {
+        return refreshTokenFamilyRepository.deleteExpired(Instant.now());
     }
 
     public DecodedJWT verifyToken(String token) {
@@ -67,15 +130,48 @@ public class SecurityService {
         } else throw new IncorrectTokenDataException("Bearer token not provided");
     }
 
-    public EmployeeDto getEmployeeDtoFromBearerToken(String bearerToken) {
-        Long id = Long.valueOf(verifyToken(getAccessTokenFromBearer(bearerToken)).getSubject());
-        return employeeRepository.findById(id)
-                .orElseThrow(() -> new EmployeeNotExistsException("id=" + id))
-                .toEmployeeDto();
+    public AuthenticatedEmployee authenticate(String bearerToken) {
+        DecodedJWT decodedJWT;
+        try {
+            decodedJWT = verifyToken(getAccessTokenFromBearer(bearerToken));
+        } catch (JWTVerificationException e) {
+            throw new IncorrectTokenDataException("Invalid access token");
+        }
+        String role = decodedJWT.getClaim(JWTUtil.ROLE_CLAIM).asString();
+        Long tokenPermissionVersion = decodedJWT.getClaim(JWTUtil.PERMISSION_VERSION_CLAIM).asLong();
+        if (role == null || tokenPermissionVersion == null || isPermissionVersionOutdated(tokenPermissionVersion)) {
+            throw new IncorrectTokenDataException("Access token permissions are outdated. Please refresh the token");
+        }
+        if (tokenRevocationList.isRevoked(getFamilyId(decodedJWT))) {
+            throw new IncorrectTokenDataException("Access token revoked");
+        }
+        return new AuthenticatedEmployee(Long.parseLong(decodedJWT.getSubject()), decodedJWT.getClaim("username").asString(),
+                Role.valueOf(role), tokenPermissionVersion);
+    }
+
+    private boolean isPermissionVersionOutdated(long tokenPermissionVersion) {
+        // a token from an instance that already reloaded the matrix is newer than ours, so catch up instead of rejecting it
+        if (tokenPermissionVersion > permissionMatrixService.getPermissionMatrix().getVersion()) {
+            permissionMatrixService.reloadIfChanged();
+        }
+        return tokenPermissionVersion < permissionMatrixService.getPermissionMatrix().getVersion();
+    }
+
+    public Optional<AuthenticatedEmployee> getAuthenticatedEmployee() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((AuthenticatedEmployee) requestAttributes
+                .getAttribute(AUTHENTICATED_EMPLOYEE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    public AuthenticatedEmployee getAuthenticatedEmployee(String bearerToken) {
+        return getAuthenticatedEmployee().orElseGet(() -> authenticate(bearerToken));
     }
 
     public void checkEmployeeAccess(Role role, WarehouseSystemOperation warehouseSystemOperation, Resource resource){
-        if(!role.hasAccessTo(warehouseSystemOperation,resource)){
+        if(!permissionMatrixService.getPermissionMatrix().hasAccess(role,warehouseSystemOperation,resource)){
             throw new AccessDeniedException();
         }
     }
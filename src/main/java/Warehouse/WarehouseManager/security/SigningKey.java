@@ -0,0 +1,80 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.enums.JwtSigningAlgorithm;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+public class SigningKey {
+
+    private final String kid;
+    private final JwtSigningAlgorithm signingAlgorithm;
+    private final PublicKey publicKey;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Instant createdAt;
+    private final Instant retiredAt;
+
+    public SigningKey(String kid, JwtSigningAlgorithm signingAlgorithm, PublicKey publicKey, PrivateKey privateKey,
+                      Instant createdAt, Instant retiredAt) {
+        this.kid = kid;
+        this.signingAlgorithm = signingAlgorithm;
+        this.publicKey = publicKey;
+        this.algorithm = signingAlgorithm.toAlgorithm(publicKey, privateKey);
+        this.verifier = JWT.require(algorithm).build();
+        this.createdAt = createdAt;
+        this.retiredAt = retiredAt;
+    }
+
+    public boolean isActive() {
+        return retiredAt == null;
+    }
+
+    public Map<String, Object> toJwk() {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", signingAlgorithm.name());
+        if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(unsigned(rsaPublicKey.getModulus(), 0)));
+            jwk.put("e", base64Url(unsigned(rsaPublicKey.getPublicExponent(), 0)));
+        } else if (publicKey instanceof ECPublicKey ecPublicKey) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(unsigned(ecPublicKey.getW().getAffineX(), 32)));
+            jwk.put("y", base64Url(unsigned(ecPublicKey.getW().getAffineY(), 32)));
+        }
+        return jwk;
+    }
+
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length >= length) {
+            return bytes;
+        }
+        byte[] padded = new byte[length];
+        System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+        return padded;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
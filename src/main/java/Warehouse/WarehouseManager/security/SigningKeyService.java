@@ -0,0 +1,146 @@
+package Warehouse.WarehouseManager.security;
+
+import Warehouse.WarehouseManager.enums.JwtSigningAlgorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class SigningKeyService {
+
+    public static final String CONFIGURED_KEY_ID = "configured-rsa";
+    // the kid comes from the client, so a miss may reload the key table at most this often
+    public static final Duration UNKNOWN_KEY_RELOAD_INTERVAL = Duration.ofSeconds(10);
+
+    private final JwtSigningKeyRepository jwtSigningKeyRepository;
+    private final JwtSigningAlgorithm signingAlgorithm;
+    private final Duration rotationPeriod;
+    private final Duration retention;
+    private final Clock clock;
+    private final SigningKey configuredKey;
+    private volatile Map<String, SigningKey> verificationKeys = Map.of();
+    private volatile SigningKey activeKey;
+    private final AtomicLong lastUnknownKeyReload = new AtomicLong(Long.MIN_VALUE);
+
+    @Autowired
+    public SigningKeyService(JwtSigningKeyRepository jwtSigningKeyRepository, RSAKeyUtil rsaKeyUtil
+            , @Value("${security.jwt.algorithm:RS256}") JwtSigningAlgorithm signingAlgorithm
+            , @Value("${security.jwt.rotation-days:7}") long rotationDays
+            , @Value("${security.jwt.key-retention-days:15}") long retentionDays) {
+        this(jwtSigningKeyRepository, rsaKeyUtil, signingAlgorithm, Duration.ofDays(rotationDays), Duration.ofDays(retentionDays), Clock.systemUTC());
+    }
+
+    public SigningKeyService(JwtSigningKeyRepository jwtSigningKeyRepository, RSAKeyUtil rsaKeyUtil, JwtSigningAlgorithm signingAlgorithm,
+                             Duration rotationPeriod, Duration retention, Clock clock) {
+        this.jwtSigningKeyRepository = jwtSigningKeyRepository;
+        this.signingAlgorithm = signingAlgorithm;
+        this.rotationPeriod = rotationPeriod;
+        this.retention = retention;
+        this.clock = clock;
+        this.configuredKey = new SigningKey(CONFIGURED_KEY_ID, JwtSigningAlgorithm.RS256, rsaKeyUtil.getPublicKey(),
+                rsaKeyUtil.getPrivateKey(), Instant.EPOCH, null);
+        reloadKeys();
+        if (activeKey == null) {
+            rotate();
+        }
+    }
+
+    public SigningKey getActiveKey() {
+        SigningKey signingKey = activeKey;
+        if (signingKey == null) {
+            throw new IllegalStateException("No active " + signingAlgorithm + " signing key");
+        }
+        return signingKey;
+    }
+
+    public SigningKey getVerificationKey(String kid) {
+        if (kid == null || CONFIGURED_KEY_ID.equals(kid)) {
+            return configuredKey;
+        }
+        SigningKey signingKey = verificationKeys.get(kid);
+        if (signingKey == null && claimUnknownKeyReload()) {
+            reloadKeys();
+            signingKey = verificationKeys.get(kid);
+        }
+        if (signingKey == null) {
+            throw new JWTVerificationException("Unknown signing key " + kid);
+        }
+        return signingKey;
+    }
+
+    public List<Map<String, Object>> getJsonWebKeys() {
+        List<Map<String, Object>> jsonWebKeys = new ArrayList<>();
+        jsonWebKeys.add(configuredKey.toJwk());
+        verificationKeys.values().forEach(signingKey -> jsonWebKeys.add(signingKey.toJwk()));
+        return jsonWebKeys;
+    }
+
+    public synchronized boolean rotateIfDue() {
+        reloadKeys();
+        jwtSigningKeyRepository.deleteRetiredKeys(clock.instant().minus(retention));
+        if (activeKey != null && activeKey.getCreatedAt().plus(rotationPeriod).isAfter(clock.instant())) {
+            return false;
+        }
+        rotate();
+        return true;
+    }
+
+    public synchronized void reloadKeys() {
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+        SigningKey newestActiveKey = null;
+        for (JwtSigningKey jwtSigningKey : jwtSigningKeyRepository.findVerificationKeys(clock.instant().minus(retention))) {
+            SigningKey signingKey = toSigningKey(jwtSigningKey);
+            keys.put(signingKey.getKid(), signingKey);
+            if (signingKey.isActive() && signingKey.getSigningAlgorithm() == signingAlgorithm) {
+                newestActiveKey = signingKey;
+            }
+        }
+        verificationKeys = Collections.unmodifiableMap(keys);
+        activeKey = newestActiveKey;
+    }
+
+    private boolean claimUnknownKeyReload() {
+        long now = clock.millis();
+        long lastReload = lastUnknownKeyReload.get();
+        if (lastReload != Long.MIN_VALUE && now - lastReload < UNKNOWN_KEY_RELOAD_INTERVAL.toMillis()) {
+            return false;
+        }
+        return lastUnknownKeyReload.compareAndSet(lastReload, now);
+    }
+
+    private synchronized void rotate() {
+        Instant now = clock.instant();
+        KeyPair keyPair = signingAlgorithm.generateKeyPair();
+        String kid = UUID.randomUUID().toString();
+        jwtSigningKeyRepository.save(new JwtSigningKey(kid, signingAlgorithm,
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+                Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()), now, null));
+        // rotations on other instances can interleave, so only older keys are retired and the newest one stays active
+        jwtSigningKeyRepository.retireKeysCreatedBefore(now, now);
+        reloadKeys();
+    }
+
+    private SigningKey toSigningKey(JwtSigningKey jwtSigningKey) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(jwtSigningKey.getAlgorithm().getKeyAlgorithm());
+            return new SigningKey(jwtSigningKey.getKid(), jwtSigningKey.getAlgorithm(),
+                    keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(jwtSigningKey.getPublicKey()))),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(jwtSigningKey.getPrivateKey()))),
+                    jwtSigningKey.getCreatedAt(), jwtSigningKey.getRetiredAt());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot load signing key " + jwtSigningKey.getKid(), e);
+        }
+    }
+}
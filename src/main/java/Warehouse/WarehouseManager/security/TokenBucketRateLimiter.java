@@ -0,0 +1,89 @@
+package Warehouse.WarehouseManager.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final int capacity;
+    private final int refillPerMinute;
+    private final long refillIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Clock clock;
+    private final List<Map<String, AtomicLong>> stripes = new ArrayList<>(STRIPES);
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maximumKeys, Clock clock) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerMinute = refillPerMinute;
+        this.refillIntervalNanos = Duration.ofMinutes(1).toNanos() / refillPerMinute;
+        this.burstToleranceNanos = refillIntervalNanos * (capacity - 1);
+        this.clock = clock;
+        int maximumKeysPerStripe = Math.max(1, maximumKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AtomicLong> eldest) {
+                    return size() > maximumKeysPerStripe;
+                }
+            });
+        }
+    }
+
+    // each bucket only stores the instant at which it will be full again, so taking a token is a single CAS
+    public Duration tryAcquire(String key) {
+        AtomicLong bucket = bucket(key);
+        long now = nanos(clock.instant());
+        while (true) {
+            long fullAt = bucket.get();
+            long start = Math.max(fullAt, now);
+            long waitNanos = start - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return Duration.ofNanos(waitNanos);
+            }
+            if (bucket.compareAndSet(fullAt, start + refillIntervalNanos)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRefillPerMinute() {
+        return refillPerMinute;
+    }
+
+    public int trackedKeys() {
+        int trackedKeys = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            synchronized (stripe) {
+                trackedKeys += stripe.size();
+            }
+        }
+        return trackedKeys;
+    }
+
+    private AtomicLong bucket(String key) {
+        int hash = key.hashCode();
+        Map<String, AtomicLong> stripe = stripes.get((hash ^ (hash >>> 16)) & (STRIPES - 1));
+        synchronized (stripe) {
+            return stripe.computeIfAbsent(key, ignored -> new AtomicLong());
+        }
+    }
+
+    private long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -0,0 +1,77 @@
+package Warehouse.WarehouseManager.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    // rows committed by other instances may carry a revokedAt slightly older than our last synchronization
+    private static final Duration SYNCHRONIZATION_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedRevocations;
+    private final Clock clock;
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private Instant lastSynchronization;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository
+            , @Value("${security.token-revocation.expected-revocations:100000}") long expectedRevocations) {
+        this(revokedTokenRepository, expectedRevocations, Clock.systemUTC());
+    }
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository, long expectedRevocations, Clock clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.clock = clock;
+        this.bloomFilter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_PROBABILITY);
+        this.lastSynchronization = Instant.EPOCH;
+        synchronize();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && bloomFilter.mightContain(tokenId) && revokedTokens.containsKey(tokenId);
+    }
+
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        boolean inserted = revokedTokenRepository.insertIfAbsent(tokenId, expiresAt, clock.instant()) == 1;
+        add(tokenId, expiresAt);
+        return inserted;
+    }
+
+    public synchronized void synchronize() {
+        Instant now = clock.instant();
+        revokedTokenRepository.findActiveRevokedSince(lastSynchronization.minus(SYNCHRONIZATION_OVERLAP), now)
+                .forEach(revokedToken -> add(revokedToken.getTokenId(), revokedToken.getExpiresAt()));
+        lastSynchronization = now;
+        if (revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+            rebuildBloomFilter();
+            revokedTokenRepository.deleteExpired(now);
+        }
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    private synchronized void add(String tokenId, Instant expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    private void rebuildBloomFilter() {
+        BloomFilter rebuiltBloomFilter = new BloomFilter(Math.max(expectedRevocations, revokedTokens.size()), FALSE_POSITIVE_PROBABILITY);
+        revokedTokens.keySet().forEach(rebuiltBloomFilter::put);
+        bloomFilter = rebuiltBloomFilter;
+    }
+}
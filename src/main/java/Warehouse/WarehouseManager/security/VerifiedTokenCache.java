@@ -0,0 +1,107 @@
+package Warehouse.WarehouseManager.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final int maximumSize;
+    private final Clock clock;
+    private final Map<String, VerifiedToken> tokensByDigest = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${security.jwt.verified-cache.maximum-size:10000}") int maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    public VerifiedTokenCache(int maximumSize, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    public DecodedJWT verify(String token, Function<String, DecodedJWT> verifier) {
+        String digest = digest(token);
+        DecodedJWT cachedToken = getIfPresent(digest);
+        if (cachedToken != null) {
+            return cachedToken;
+        }
+        DecodedJWT decodedJWT = verifier.apply(token);
+        if (decodedJWT.getExpiresAt() != null) {
+            put(digest, new VerifiedToken(decodedJWT, decodedJWT.getExpiresAt().toInstant()));
+        }
+        return decodedJWT;
+    }
+
+    public int size() {
+        return tokensByDigest.size();
+    }
+
+    private DecodedJWT getIfPresent(String digest) {
+        VerifiedToken verifiedToken = tokensByDigest.get(digest);
+        if (verifiedToken == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(verifiedToken.expiresAt())) {
+            tokensByDigest.remove(digest, verifiedToken);
+            return null;
+        }
+        return verifiedToken.decodedJWT();
+    }
+
+    private void put(String digest, VerifiedToken verifiedToken) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        if (tokensByDigest.size() >= maximumSize) {
+            evict();
+        }
+        tokensByDigest.put(digest, verifiedToken);
+    }
+
+    // eviction is approximate: expired tokens go first, then arbitrary ones until a tenth of the cache is free
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Instant now = clock.instant();
+            tokensByDigest.values().removeIf(verifiedToken -> !now.isBefore(verifiedToken.expiresAt()));
+            int targetSize = maximumSize - Math.max(1, maximumSize / 10);
+            Iterator<String> digests = tokensByDigest.keySet().iterator();
+            while (tokensByDigest.size() > targetSize && digests.hasNext()) {
+                digests.next();
+                digests.remove();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(DecodedJWT decodedJWT, Instant expiresAt) {
+    }
+}
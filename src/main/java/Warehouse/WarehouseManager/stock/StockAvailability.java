@@ -0,0 +1,4 @@
+package Warehouse.WarehouseManager.stock;
+
+public record StockAvailability(long warehouseId, long quantity) {
+}
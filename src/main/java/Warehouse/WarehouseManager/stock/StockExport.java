@@ -0,0 +1,4 @@
+package Warehouse.WarehouseManager.stock;
+
+public record StockExport(long stockId, long productId, String productName, long warehouseId, long quantity) {
+}
@@ -1,15 +1,45 @@
 package Warehouse.WarehouseManager.stock;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StockRepository extends JpaRepository<Stock,Long> {
 
     @Query("SELECT s FROM Stock s WHERE s.product.name = :name")
-    Optional<Stock> findStockByProductName(String name);
+    List<Stock> findStocksByProductName(String name);
 
-    Optional<Stock> findStockByProductId(long productId);
+    Optional<Stock> findStockByProductIdAndWarehouseId(long productId, long warehouseId);
+
+    @Query("SELECT s FROM Stock s JOIN FETCH s.product JOIN FETCH s.warehouse " +
+            "WHERE s.warehouse.id = :warehouseId AND s.product.id IN :productIds")
+    List<Stock> findStocksByWarehouseIdAndProductIds(long warehouseId, Collection<Long> productIds);
+
+    boolean existsByProductIdAndWarehouseId(long productId, long warehouseId);
+
+    @Query("SELECT new Warehouse.WarehouseManager.stock.StockAvailability(s.warehouse.id, s.quantity) FROM Stock s " +
+            "WHERE s.product.id = :productId ORDER BY s.warehouse.id")
+    List<StockAvailability> findAvailabilityByProductId(long productId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Stock s SET s.quantity = s.quantity + :delta WHERE s.product.id = :productId " +
+            "AND s.warehouse.id = :warehouseId AND s.quantity + :delta >= 0")
+    int applyQuantityDelta(long productId, long warehouseId, long delta);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new Warehouse.WarehouseManager.stock.StockExport(s.id, s.product.id, s.product.name, s.warehouse.id, " +
+            "s.quantity) FROM Stock s ORDER BY s.id")
+    Stream<StockExport> streamAllStocks();
 
 }
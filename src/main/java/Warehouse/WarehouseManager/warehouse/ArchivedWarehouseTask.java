@@ -0,0 +1,58 @@
+package Warehouse.WarehouseManager.warehouse;
+
+import Warehouse.WarehouseManager.enums.ApprovalStatus;
+import Warehouse.WarehouseManager.enums.Status;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Entity
+@Table(name = "warehouse_task_archive")
+public class ArchivedWarehouseTask {
+    @Id
+    @JsonProperty("task_id")
+    private Long id;
+
+    @JsonProperty("warehouse_id")
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId;
+
+    @JsonProperty("product_id")
+    @Column(nullable = false)
+    private long productId;
+
+    @JsonProperty("quantity")
+    @Column(nullable = false)
+    private long quantity;
+
+    @Enumerated(EnumType.STRING)
+    @JsonProperty("approval_status")
+    @Column(nullable = false)
+    private ApprovalStatus approvalStatus;
+
+    @JsonProperty("task_created_at")
+    private LocalDate taskCreatedAt;
+
+    @JsonProperty("task_updated_at")
+    private LocalDate taskUpdatedAt;
+
+    @Enumerated(EnumType.STRING)
+    @JsonProperty("status")
+    @Column(nullable = false)
+    private Status status;
+
+    @JsonProperty("completed_at")
+    @Column(nullable = false)
+    private LocalDate completedAt;
+
+    @JsonProperty("archived_at")
+    @Column(nullable = false)
+    private LocalDate archivedAt;
+}
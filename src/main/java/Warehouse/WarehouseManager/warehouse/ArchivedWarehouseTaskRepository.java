@@ -0,0 +1,26 @@
+package Warehouse.WarehouseManager.warehouse;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedWarehouseTaskRepository extends JpaRepository<ArchivedWarehouseTask, Long> {
+    List<ArchivedWarehouseTask> findByWarehouseIdAndCompletedAtBetweenAndIdGreaterThanOrderById(
+            long warehouseId, LocalDate completedFrom, LocalDate completedTo, long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new Warehouse.WarehouseManager.warehouse.ArchivedWarehouseTask(t.id, t.warehouseId, t.productId, " +
+            "t.quantity, t.approvalStatus, t.taskCreatedAt, t.taskUpdatedAt, t.status, t.completedAt, t.archivedAt) " +
+            "FROM ArchivedWarehouseTask t ORDER BY t.completedAt, t.id")
+    Stream<ArchivedWarehouseTask> streamAllArchivedTasks();
+}
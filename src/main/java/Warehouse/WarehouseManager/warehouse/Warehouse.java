@@ -1,20 +1,12 @@
 package Warehouse.WarehouseManager.warehouse;
 
-import Warehouse.WarehouseManager.enums.Status;
 import Warehouse.WarehouseManager.exception.OccupiedAreaQuantityException;
-import Warehouse.WarehouseManager.exception.WarehouseCapacityExceededException;
-import Warehouse.WarehouseManager.exception.WarehouseTaskNotExistsException;
-import Warehouse.WarehouseManager.product.Product;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Entity
 public class Warehouse {
@@ -34,11 +26,17 @@ public class Warehouse {
     @Column(nullable = false)
     private Long occupiedArea;
 
-    @Setter
-    @JdbcTypeCode(SqlTypes.JSON)
-    private WarehouseTasks warehouseTasks;
+    @Version
+    private Long version;
+
+    public Warehouse(Long id, String name, Long capacity, Long occupiedArea) {
+        this.id = id;
+        this.name = name;
+        this.capacity = capacity;
+        this.occupiedArea = occupiedArea;
+    }
 
-    public WarehouseDto toWarehouseDto() {
+    public WarehouseDto toWarehouseDto(WarehouseTasks warehouseTasks) {
         return new WarehouseDto(id, name, capacity, occupiedArea, warehouseTasks);
     }
 
@@ -0,0 +1,4 @@
+package Warehouse.WarehouseManager.warehouse;
+
+public record WarehouseContention(long mutations, long conflicts, long retries, long exhaustedRetries) {
+}
@@ -0,0 +1,50 @@
+package Warehouse.WarehouseManager.warehouse;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class WarehouseContentionMetrics {
+
+    private final Map<Long, LongAdder> mutations = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> conflicts = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> retries = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> exhaustedRetries = new ConcurrentHashMap<>();
+
+    public void recordMutation(long warehouseId) {
+        increment(mutations, warehouseId);
+    }
+
+    public void recordConflict(long warehouseId) {
+        increment(conflicts, warehouseId);
+    }
+
+    public void recordRetry(long warehouseId) {
+        increment(retries, warehouseId);
+    }
+
+    public void recordExhaustedRetries(long warehouseId) {
+        increment(exhaustedRetries, warehouseId);
+    }
+
+    public Map<Long, WarehouseContention> getContentionByWarehouse() {
+        Map<Long, WarehouseContention> contention = new TreeMap<>();
+        mutations.keySet().forEach(warehouseId -> contention.put(warehouseId, new WarehouseContention(
+                count(mutations, warehouseId), count(conflicts, warehouseId),
+                count(retries, warehouseId), count(exhaustedRetries, warehouseId))));
+        return contention;
+    }
+
+    private void increment(Map<Long, LongAdder> counters, long warehouseId) {
+        counters.computeIfAbsent(warehouseId, id -> new LongAdder()).increment();
+    }
+
+    private long count(Map<Long, LongAdder> counters, long warehouseId) {
+        LongAdder counter = counters.get(warehouseId);
+        return counter == null ? 0 : counter.sum();
+    }
+}
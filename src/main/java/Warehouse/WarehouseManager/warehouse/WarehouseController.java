@@ -17,6 +17,11 @@ public class WarehouseController {
     }
 
     @GetMapping("/all")
+    public ResponseEntity<List<WarehouseSummary>> getWarehouseSummaryList() {
+        return ResponseEntity.ok(warehouseService.getWarehouseSummaryList());
+    }
+
+    @GetMapping(value = "/all", params = "include=tasks")
     public ResponseEntity<List<WarehouseDto>> getWarehouseDtoList() {
         return ResponseEntity.ok(warehouseService.getWarehouseDtoList());
     }
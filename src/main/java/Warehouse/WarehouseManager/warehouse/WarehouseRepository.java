@@ -1,11 +1,28 @@
 package Warehouse.WarehouseManager.warehouse;
 
+import Warehouse.WarehouseManager.enums.ApprovalStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public interface WarehouseRepository extends JpaRepository<Warehouse, Long> {
     boolean existsByName(String name);
 
+    @Transactional
+    @Modifying
+    @Query("UPDATE Warehouse w SET w.occupiedArea = w.occupiedArea + :delta, w.version = w.version + 1 WHERE w.id = :warehouseId " +
+            "AND w.occupiedArea + :delta <= w.capacity AND w.occupiedArea + :delta >= 0")
+    int reserveCapacity(long warehouseId, long delta);
 
+    @Query("SELECT new Warehouse.WarehouseManager.warehouse.WarehouseSummary(w.id, w.name, w.capacity, w.occupiedArea, " +
+            "w.capacity - w.occupiedArea, COUNT(CASE WHEN t.approvalStatus = :notApproved THEN 1 END), " +
+            "COUNT(CASE WHEN t.approvalStatus = :approved THEN 1 END)) " +
+            "FROM Warehouse w LEFT JOIN WarehouseTask t ON t.warehouseId = w.id AND t.approvalStatus IN (:notApproved, :approved) " +
+            "GROUP BY w.id, w.name, w.capacity, w.occupiedArea ORDER BY w.id")
+    List<WarehouseSummary> findWarehouseSummaries(ApprovalStatus notApproved, ApprovalStatus approved);
 }
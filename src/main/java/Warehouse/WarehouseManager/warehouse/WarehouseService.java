@@ -1,10 +1,10 @@
 package Warehouse.WarehouseManager.warehouse;
 
-import Warehouse.WarehouseManager.employee.EmployeeDto;
 import Warehouse.WarehouseManager.employee.EmployeeService;
 import Warehouse.WarehouseManager.enums.*;
 import Warehouse.WarehouseManager.exception.*;
 import Warehouse.WarehouseManager.product.ProductRepository;
+import Warehouse.WarehouseManager.security.AuthenticatedEmployee;
 import Warehouse.WarehouseManager.security.SecurityService;
 import Warehouse.WarehouseManager.stock.Stock;
 import Warehouse.WarehouseManager.stock.StockRepository;
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -25,23 +26,35 @@ public class WarehouseService {
     private final EmployeeService employeeService;
     private ProductRepository productRepository;
     private StockRepository stockRepository;
+    private final WarehouseTaskRepository warehouseTaskRepository;
 
     public WarehouseService(final WarehouseRepository warehouseRepository, final SecurityService securityService, final EmployeeService employeeService,
-                            final ProductRepository productRepository, final StockRepository stockRepository) {
+                            final ProductRepository productRepository, final StockRepository stockRepository,
+                            final WarehouseTaskRepository warehouseTaskRepository) {
         this.warehouseRepository = warehouseRepository;
         this.securityService = securityService;
         this.employeeService = employeeService;
         this.productRepository = productRepository;
         this.stockRepository = stockRepository;
+        this.warehouseTaskRepository = warehouseTaskRepository;
     }
 
     private List<Warehouse> getWarehouses() {
         return warehouseRepository.findAll();
     }
 
+    public List<WarehouseSummary> getWarehouseSummaryList() {
+        return warehouseRepository.findWarehouseSummaries(ApprovalStatus.NOT_APPROVED, ApprovalStatus.APPROVED);
+    }
+
     public List<WarehouseDto> getWarehouseDtoList() {
-        return warehouseRepository.findAll().stream()
-                .map(Warehouse::toWarehouseDto)
+        List<Warehouse> warehouses = warehouseRepository.findAll();
+        Map<Long, List<WarehouseTask>> tasksByWarehouseId = warehouseTaskRepository
+                .findByWarehouseIdIn(warehouses.stream().map(Warehouse::getId).toList()).stream()
+                .collect(Collectors.groupingBy(WarehouseTask::getWarehouseId));
+        return warehouses.stream()
+                .map(warehouse -> warehouse.toWarehouseDto(new WarehouseTasks(
+                        new ArrayList<>(tasksByWarehouseId.getOrDefault(warehouse.getId(), List.of())))))
                 .collect(Collectors.toList());
     }
 
@@ -50,15 +63,17 @@ public class WarehouseService {
     }
 
     public WarehouseDto getWarehouseDtoById(Long id) {
-        return getWarehouseById(id).toWarehouseDto();
+        return toWarehouseDtoWithTasks(getWarehouseById(id));
+    }
+
+    private WarehouseDto toWarehouseDtoWithTasks(Warehouse warehouse) {
+        return warehouse.toWarehouseDto(new WarehouseTasks(warehouseTaskRepository.findByWarehouseId(warehouse.getId())));
     }
 
     @Transactional
     public WarehouseDto addWarehouse(WarehouseDto warehouseDto, String bearerToken) {
-        EmployeeDto employeeDto = securityService.getEmployeeDtoFromBearerToken(bearerToken);
-        if (!employeeDto.role().hasAccessTo(WarehouseSystemOperation.ADD, Resource.WAREHOUSE)) {
-            throw new AccessDeniedException();
-        }
+        AuthenticatedEmployee authenticatedEmployee = securityService.getAuthenticatedEmployee(bearerToken);
+        securityService.checkEmployeeAccess(authenticatedEmployee.role(), WarehouseSystemOperation.ADD, Resource.WAREHOUSE);
 
         if (warehouseDto.name().isBlank() || warehouseDto.capacity() == null) {
             throw new EmptyDataException();
@@ -73,15 +88,13 @@ public class WarehouseService {
         warehouse.setCapacity(warehouseDto.capacity());
         warehouse.setOccupiedArea(0L);
 
-        return warehouseRepository.save(warehouse).toWarehouseDto();
+        return warehouseRepository.save(warehouse).toWarehouseDto(new WarehouseTasks());
     }
 
     @Transactional
     public WarehouseDto modifyWarehouse(WarehouseDto warehouseDto, String bearerToken) {
-        EmployeeDto employeeDto = getEmployeeDtoFromAccessToken(securityService.getAccessTokenFromBearer(bearerToken));
-        if (!employeeDto.role().hasAccessTo(WarehouseSystemOperation.MODIFY, Resource.WAREHOUSE)) {
-            throw new AccessDeniedException();
-        }
+        AuthenticatedEmployee authenticatedEmployee = securityService.getAuthenticatedEmployee(bearerToken);
+        securityService.checkEmployeeAccess(authenticatedEmployee.role(), WarehouseSystemOperation.MODIFY, Resource.WAREHOUSE);
         if (warehouseDto.id() == null) throw new EmptyDataException();
         Warehouse currentWarehouse = getWarehouseById(warehouseDto.id());
         if (!warehouseDto.name().isBlank()) {
@@ -93,16 +106,14 @@ public class WarehouseService {
             throw new IllegalDataException("Warehouse must be able to store between 500 and 2500 pallets (range " + 500 * ProductSize.PALLET.getValue() + " - " + 2500 * ProductSize.PALLET.getValue() + ")");
 
         }
-        return warehouseRepository.save(currentWarehouse).toWarehouseDto();
+        return toWarehouseDtoWithTasks(warehouseRepository.save(currentWarehouse));
     }
 
     @Transactional
     public void deleteWarehouse(Long id, String bearerToken) {
-        EmployeeDto employeeDto = getEmployeeDtoFromAccessToken(securityService.getAccessTokenFromBearer(bearerToken));
+        AuthenticatedEmployee authenticatedEmployee = securityService.getAuthenticatedEmployee(bearerToken);
 
-        if (!employeeDto.role().hasAccessTo(WarehouseSystemOperation.REMOVAL, Resource.WAREHOUSE)) {
-            throw new AccessDeniedException();
-        }
+        securityService.checkEmployeeAccess(authenticatedEmployee.role(), WarehouseSystemOperation.REMOVAL, Resource.WAREHOUSE);
 
         if (warehouseRepository.existsById(id)) {
             warehouseRepository.deleteById(id);
@@ -113,9 +124,6 @@ public class WarehouseService {
         return capacity >= 500 * ProductSize.PALLET.getValue() && capacity <= 2500 * ProductSize.PALLET.getValue();
     }
 
-    private EmployeeDto getEmployeeDtoFromAccessToken(String accessToken) {
-        return employeeService.getEmployeeDtoById(Long.valueOf(securityService.verifyToken(accessToken).getSubject()));
-    }
 
 
 
@@ -0,0 +1,5 @@
+package Warehouse.WarehouseManager.warehouse;
+
+public record WarehouseSummary(Long id, String name, Long capacity, Long occupiedArea, Long freeCapacity,
+                               Long notApprovedTaskCount, Long approvedTaskCount) {
+}
@@ -3,10 +3,10 @@ package Warehouse.WarehouseManager.warehouse;
 import Warehouse.WarehouseManager.enums.ApprovalStatus;
 import Warehouse.WarehouseManager.enums.Status;
 import Warehouse.WarehouseManager.exception.IncorrectStatusException;
-import Warehouse.WarehouseManager.product.Product;
+import Warehouse.WarehouseManager.exception.StockQuantityException;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -14,23 +14,29 @@ import lombok.Setter;
 import java.io.Serializable;
 import java.time.LocalDate;
 
-@AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
-
+@Entity
+@Table(name = "warehouse_task")
 public class WarehouseTask implements Serializable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "warehouse_task_id_seq")
+    @SequenceGenerator(name = "warehouse_task_id_seq", sequenceName = "warehouse_task_id_seq", allocationSize = 50)
     @JsonProperty("task_id")
-    private long id;
+    private Long id;
 
     @JsonProperty("product_id")
+    @Column(nullable = false)
     private long productId;
 
     @JsonProperty("quantity")
+    @Column(nullable = false)
     private long quantity;
 
     @Enumerated(EnumType.STRING)
     @JsonProperty("approval_status")
+    @Column(nullable = false)
     private ApprovalStatus approvalStatus = ApprovalStatus.NOT_APPROVED;
 
     @JsonProperty("task_created_at")
@@ -41,18 +47,50 @@ public class WarehouseTask implements Serializable {
 
     @Enumerated(EnumType.STRING)
     @JsonProperty("status")
+    @Column(nullable = false)
     private Status status;
 
+    @JsonProperty("warehouse_id")
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId;
+
+    @Version
+    @JsonIgnore
+    private Long version;
+
+    public WarehouseTask(Long id, long productId, long quantity, ApprovalStatus approvalStatus, LocalDate taskCreatedAt,
+                         LocalDate taskUpdatedAt, Status status, Long warehouseId) {
+        this.id = id;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.approvalStatus = approvalStatus;
+        this.taskCreatedAt = taskCreatedAt;
+        this.taskUpdatedAt = taskUpdatedAt;
+        this.status = status;
+        this.warehouseId = warehouseId;
+    }
+
     public void validateWarehouseTaskStatus() {
-        if (!status.equals(Status.RECEPTION_AREA) && !status.equals(Status.RELEASE_AREA)) {
+        if (status != Status.RECEPTION_AREA && status != Status.RELEASE_AREA) {
             throw new IncorrectStatusException();
         }
     }
 
+    public void validateQuantity() {
+        if (quantity <= 0) {
+            throw new StockQuantityException();
+        }
+    }
+
     public void approveTask(){
         this.approvalStatus = ApprovalStatus.APPROVED;
     }
 
+    public void completeTask() {
+        this.approvalStatus = ApprovalStatus.DONE;
+        this.taskUpdatedAt = LocalDate.now();
+    }
+
     public void updateWith(WarehouseTask warehouseTask) {
         this.productId = warehouseTask.getProductId();
         this.quantity = warehouseTask.getQuantity();
@@ -60,4 +98,4 @@ public class WarehouseTask implements Serializable {
         this.taskUpdatedAt = LocalDate.now();
         this.status = warehouseTask.getStatus();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package Warehouse.WarehouseManager.warehouse;
+
+import Warehouse.WarehouseManager.exception.IllegalDataException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class WarehouseTaskArchiveService {
+
+    private static final int MAX_ARCHIVE_PAGE_SIZE = 500;
+
+    private WarehouseTaskRepository warehouseTaskRepository;
+    private ArchivedWarehouseTaskRepository archivedWarehouseTaskRepository;
+    private long archiveAfterDays;
+    private int archiveBatchSize;
+
+    @Autowired
+    public WarehouseTaskArchiveService(WarehouseTaskRepository warehouseTaskRepository
+            , ArchivedWarehouseTaskRepository archivedWarehouseTaskRepository
+            , @Value("${warehouse.task.archive.after-days:90}") long archiveAfterDays
+            , @Value("${warehouse.task.archive.batch-size:1000}") int archiveBatchSize) {
+        this.warehouseTaskRepository = warehouseTaskRepository;
+        this.archivedWarehouseTaskRepository = archivedWarehouseTaskRepository;
+        this.archiveAfterDays = archiveAfterDays;
+        this.archiveBatchSize = archiveBatchSize;
+    }
+
+    public long archiveCompletedTasks() {
+        LocalDate cutoff = LocalDate.now().minusDays(archiveAfterDays);
+        warehouseTaskRepository.createArchivePartitions(cutoff);
+        long archivedTasks = 0;
+        int movedTasks;
+        do {
+            movedTasks = warehouseTaskRepository.moveCompletedTasksToArchive(cutoff, archiveBatchSize);
+            archivedTasks += movedTasks;
+        } while (movedTasks == archiveBatchSize);
+        return archivedTasks;
+    }
+
+    public ArchivedWarehouseTaskPage getArchivedWarehouseTasks(long warehouseId, LocalDate completedFrom
+            , LocalDate completedTo, Long afterId, int size) {
+        if (size < 1 || size > MAX_ARCHIVE_PAGE_SIZE) {
+            throw new IllegalDataException("Page size must be between 1 and " + MAX_ARCHIVE_PAGE_SIZE);
+        }
+        if (completedFrom.isAfter(completedTo)) {
+            throw new IllegalDataException("completedFrom must not be after completedTo");
+        }
+        List<ArchivedWarehouseTask> archivedTasks = archivedWarehouseTaskRepository
+                .findByWarehouseIdAndCompletedAtBetweenAndIdGreaterThanOrderById(warehouseId, completedFrom, completedTo,
+                        afterId == null ? 0L : afterId, Limit.of(size));
+        Long nextAfterId = archivedTasks.size() == size ? archivedTasks.get(size - 1).getId() : null;
+        return new ArchivedWarehouseTaskPage(archivedTasks, nextAfterId);
+    }
+}
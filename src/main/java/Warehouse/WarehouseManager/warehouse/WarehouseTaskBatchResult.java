@@ -0,0 +1,13 @@
+package Warehouse.WarehouseManager.warehouse;
+
+public record WarehouseTaskBatchResult(int position, boolean success, WarehouseTask warehouseTask, String error) {
+
+    public static WarehouseTaskBatchResult created(int position, WarehouseTask warehouseTask) {
+        return new WarehouseTaskBatchResult(position, true, warehouseTask, null);
+    }
+
+    public static WarehouseTaskBatchResult rejected(int position, WarehouseTask warehouseTask, RuntimeException exception) {
+        String error = exception.getMessage() != null ? exception.getMessage() : exception.getClass().getSimpleName();
+        return new WarehouseTaskBatchResult(position, false, warehouseTask, error);
+    }
+}
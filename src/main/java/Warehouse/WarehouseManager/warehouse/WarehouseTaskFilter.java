@@ -0,0 +1,40 @@
+package Warehouse.WarehouseManager.warehouse;
+
+import Warehouse.WarehouseManager.enums.ApprovalStatus;
+import Warehouse.WarehouseManager.enums.Status;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public record WarehouseTaskFilter(ApprovalStatus approvalStatus, Status status, Long productId,
+                                  LocalDate createdFrom, LocalDate createdTo) {
+
+    public Specification<WarehouseTask> toSpecification(long warehouseId, Long afterId) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(root.get("warehouseId"), warehouseId));
+            if (afterId != null) {
+                predicates.add(criteriaBuilder.greaterThan(root.get("id"), afterId));
+            }
+            if (approvalStatus != null) {
+                predicates.add(criteriaBuilder.equal(root.get("approvalStatus"), approvalStatus));
+            }
+            if (status != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), status));
+            }
+            if (productId != null) {
+                predicates.add(criteriaBuilder.equal(root.get("productId"), productId));
+            }
+            if (createdFrom != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("taskCreatedAt"), createdFrom));
+            }
+            if (createdTo != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("taskCreatedAt"), createdTo));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
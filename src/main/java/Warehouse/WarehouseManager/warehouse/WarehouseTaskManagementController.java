@@ -2,20 +2,39 @@ package Warehouse.WarehouseManager.warehouse;
 
 
 import Warehouse.WarehouseManager.enums.ApprovalStatus;
+import Warehouse.WarehouseManager.enums.Status;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/task")
 public class WarehouseTaskManagementController {
 
     private WarehouseTaskManagementService warehouseTaskManagementService;
+    private WarehouseTaskArchiveService warehouseTaskArchiveService;
+    private WarehouseTaskMutationRetry warehouseTaskMutationRetry;
+    private WarehouseContentionMetrics warehouseContentionMetrics;
 
     @Autowired
-    public WarehouseTaskManagementController(WarehouseTaskManagementService warehouseTaskManagementService) {
+    public WarehouseTaskManagementController(WarehouseTaskManagementService warehouseTaskManagementService
+            , WarehouseTaskArchiveService warehouseTaskArchiveService, WarehouseTaskMutationRetry warehouseTaskMutationRetry
+            , WarehouseContentionMetrics warehouseContentionMetrics) {
         this.warehouseTaskManagementService = warehouseTaskManagementService;
+        this.warehouseTaskArchiveService = warehouseTaskArchiveService;
+        this.warehouseTaskMutationRetry = warehouseTaskMutationRetry;
+        this.warehouseContentionMetrics = warehouseContentionMetrics;
+    }
+
+    @GetMapping("/metrics/contention")
+    public ResponseEntity<Map<Long, WarehouseContention>> getWarehouseContention(){
+        return ResponseEntity.ok(warehouseContentionMetrics.getContentionByWarehouse());
     }
 
     @GetMapping("/{warehouseId}")
@@ -29,22 +48,67 @@ public class WarehouseTaskManagementController {
         return ResponseEntity.ok(warehouseTaskManagementService.getWarehouseTaskListByApproved(warehouseId,approvalStatus));
     }
 
+    @GetMapping("/{warehouseId}/search")
+    public ResponseEntity<WarehouseTaskPage> searchWarehouseTasks(@PathVariable long warehouseId
+            , @RequestParam(required = false) ApprovalStatus approvalStatus
+            , @RequestParam(required = false) Status status
+            , @RequestParam(required = false) Long productId
+            , @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom
+            , @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo
+            , @RequestParam(required = false) Long afterId
+            , @RequestParam(defaultValue = "50") int size) {
+        WarehouseTaskFilter filter = new WarehouseTaskFilter(approvalStatus, status, productId, createdFrom, createdTo);
+        return ResponseEntity.ok(warehouseTaskManagementService.searchWarehouseTasks(warehouseId, filter, afterId, size));
+    }
+
+    @GetMapping("/{warehouseId}/archive")
+    public ResponseEntity<ArchivedWarehouseTaskPage> getArchivedWarehouseTasks(@PathVariable long warehouseId
+            , @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate completedFrom
+            , @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate completedTo
+            , @RequestParam(required = false) Long afterId
+            , @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(warehouseTaskArchiveService.getArchivedWarehouseTasks(warehouseId, completedFrom
+                , completedTo, afterId, size));
+    }
+
     @PostMapping("/{warehouseId}/add")
     public ResponseEntity<WarehouseTask> createWarehouseTask(@PathVariable long warehouseId, @RequestBody WarehouseTask warehouseTask){
         return ResponseEntity.ok().body(warehouseTaskManagementService.createWarehouseTask(warehouseTask,warehouseId));
     }
 
+    @PostMapping("/{warehouseId}/add/batch")
+    public ResponseEntity<List<WarehouseTaskBatchResult>> createWarehouseTasks(@PathVariable long warehouseId
+            , @RequestBody List<WarehouseTask> warehouseTasks){
+        return ResponseEntity.ok().body(warehouseTaskManagementService.createWarehouseTasks(warehouseTasks,warehouseId));
+    }
+
     @PatchMapping("/{warehouseId}/{userId}/approval")
     public ResponseEntity<WarehouseTask> changeApprovalStatus(@PathVariable long warehouseId,@PathVariable long userId
             ,@RequestBody long taskId
             ){
-        return ResponseEntity.ok(warehouseTaskManagementService.changeApproval(warehouseId,userId,taskId));
+        return ResponseEntity.ok(warehouseTaskMutationRetry.execute(warehouseId,
+                () -> warehouseTaskManagementService.changeApproval(warehouseId,userId,taskId)));
+    }
+
+
+    @PatchMapping("/{warehouseId}/{userId}/approval/batch")
+    public ResponseEntity<WarehouseTasks> approveWarehouseTasks(@PathVariable long warehouseId, @PathVariable long userId
+            , @RequestBody List<Long> taskIds){
+        return ResponseEntity.ok(warehouseTaskMutationRetry.execute(warehouseId,
+                () -> warehouseTaskManagementService.approveWarehouseTasks(warehouseId,userId,taskIds)));
     }
 
+    @PatchMapping("/{warehouseId}/{userId}/complete/batch")
+    public ResponseEntity<WarehouseTasks> completeWarehouseTasks(@PathVariable long warehouseId, @PathVariable long userId
+            , @RequestBody List<Long> taskIds){
+        return ResponseEntity.ok(warehouseTaskMutationRetry.execute(warehouseId,
+                () -> warehouseTaskManagementService.completeWarehouseTasks(warehouseId,userId,taskIds)));
+    }
 
     @DeleteMapping("/{warehouseId}")
     public ResponseEntity deleteTask(@PathVariable long warehouseId, @RequestBody WarehouseTask warehouseTask){
-        warehouseTaskManagementService.deleteWarehouseTask(warehouseId,warehouseTask);
+        warehouseTaskMutationRetry.execute(warehouseId,
+                () -> warehouseTaskManagementService.deleteWarehouseTask(warehouseId,warehouseTask));
         return ResponseEntity.noContent().build();
     }
 
@@ -3,174 +3,324 @@ package Warehouse.WarehouseManager.warehouse;
 import Warehouse.WarehouseManager.employee.EmployeeService;
 import Warehouse.WarehouseManager.enums.*;
 import Warehouse.WarehouseManager.exception.*;
-import Warehouse.WarehouseManager.product.Product;
-import Warehouse.WarehouseManager.product.ProductRepository;
+import Warehouse.WarehouseManager.product.ProductCache;
+import Warehouse.WarehouseManager.product.ProductDto;
 import Warehouse.WarehouseManager.security.SecurityService;
 import Warehouse.WarehouseManager.stock.Stock;
 import Warehouse.WarehouseManager.stock.StockRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class WarehouseTaskManagementService {
 
+    private static final int MAX_TASK_PAGE_SIZE = 500;
+
     private WarehouseRepository warehouseRepository;
     private SecurityService securityService;
     private EmployeeService employeeService;
-    private ProductRepository productRepository;
+    private ProductCache productCache;
     private StockRepository stockRepository;
+    private WarehouseTaskRepository warehouseTaskRepository;
 
     @Autowired
     public WarehouseTaskManagementService(WarehouseRepository warehouseRepository, SecurityService securityService
-            , EmployeeService employeeService, ProductRepository productRepository, StockRepository stockRepository) {
+            , EmployeeService employeeService, ProductCache productCache, StockRepository stockRepository
+            , WarehouseTaskRepository warehouseTaskRepository) {
         this.warehouseRepository = warehouseRepository;
         this.securityService = securityService;
         this.employeeService = employeeService;
-        this.productRepository = productRepository;
+        this.productCache = productCache;
         this.stockRepository = stockRepository;
+        this.warehouseTaskRepository = warehouseTaskRepository;
     }
 
     public WarehouseTasks getWarehouseTasksList(Long id) {
-        return warehouseRepository.findById(id).get().getWarehouseTasks();
+        checkWarehouseExists(id);
+        return new WarehouseTasks(warehouseTaskRepository.findByWarehouseId(id));
     }
 
     @Transactional
     public WarehouseTask createWarehouseTask(WarehouseTask warehouseTask, long warehouseId) {
         Warehouse warehouse = warehouseRepository.findById(warehouseId).orElseThrow(WarehouseNotFoundException::new);
-        validateOfProduct(warehouseTask.getProductId());
+        ProductDto product = findProductById(warehouseTask.getProductId());
         warehouseTask.validateWarehouseTaskStatus();
-        checkQuantityStockBeforeReleaseWithWarehouse(warehouseTask.getStatus(), warehouseTask.getProductId(), warehouseTask.getQuantity());
-        checkWarehouseCapacity(findProductById(warehouseTask.getProductId()),warehouseTask,warehouse);
-        warehouse.setWarehouseTasks(addTaskIntoList(warehouse.getWarehouseTasks(), warehouseTask));
-        warehouseRepository.save(warehouse);
-        return warehouseTask;
+        warehouseTask.validateQuantity();
+        checkQuantityStockBeforeReleaseWithWarehouse(warehouseTask.getStatus(), warehouseTask.getProductId(), warehouseId, warehouseTask.getQuantity());
+        checkWarehouseCapacity(product,warehouseTask,warehouse);
+        prepareNewTask(warehouseTask, warehouseId);
+        return warehouseTaskRepository.save(warehouseTask);
+    }
+
+    @Transactional
+    public List<WarehouseTaskBatchResult> createWarehouseTasks(List<WarehouseTask> warehouseTasks, long warehouseId) {
+        Warehouse warehouse = warehouseRepository.findById(warehouseId).orElseThrow(WarehouseNotFoundException::new);
+        Set<Long> productIds = warehouseTasks.stream().map(WarehouseTask::getProductId).collect(Collectors.toSet());
+        Map<Long, ProductDto> products = productCache.findAllById(productIds);
+        Map<Long, Long> stockQuantities = stockRepository.findStocksByWarehouseIdAndProductIds(warehouseId, productIds).stream()
+                .collect(Collectors.toMap(stock -> stock.getProduct().getId(), Stock::getQuantity));
+        long availableCapacity = warehouse.calculateAvailableWarehouseCapacity();
+        List<WarehouseTaskBatchResult> results = new ArrayList<>();
+        List<WarehouseTask> acceptedTasks = new ArrayList<>();
+        for (int position = 0; position < warehouseTasks.size(); position++) {
+            WarehouseTask warehouseTask = warehouseTasks.get(position);
+            try {
+                ProductDto product = products.get(warehouseTask.getProductId());
+                if (product == null) {
+                    throw new ProductNotExistsException("Product");
+                }
+                warehouseTask.validateWarehouseTaskStatus();
+                warehouseTask.validateQuantity();
+                if (warehouseTask.getStatus().equals(Status.RELEASE_AREA)) {
+                    stockQuantities.put(warehouseTask.getProductId(), reserveBatchStock(
+                            stockQuantities.get(warehouseTask.getProductId()), warehouseTask.getQuantity()));
+                } else {
+                    long taskCapacity = product.size().getValue() * warehouseTask.getQuantity();
+                    if (availableCapacity < taskCapacity) {
+                        throw new WarehouseCapacityExceededException();
+                    }
+                    availableCapacity -= taskCapacity;
+                }
+                prepareNewTask(warehouseTask, warehouseId);
+                acceptedTasks.add(warehouseTask);
+                results.add(WarehouseTaskBatchResult.created(position, warehouseTask));
+            } catch (ProductNotExistsException | IncorrectStatusException | StockNotExistsException
+                     | StockQuantityException | WarehouseCapacityExceededException exception) {
+                results.add(WarehouseTaskBatchResult.rejected(position, warehouseTask, exception));
+            }
+        }
+        warehouseTaskRepository.saveAll(acceptedTasks);
+        return results;
+    }
+
+    private long reserveBatchStock(Long stockQuantity, long releasedQuantity) {
+        if (stockQuantity == null) {
+            throw new StockNotExistsException();
+        }
+        if (stockQuantity < releasedQuantity) {
+            throw new StockQuantityException();
+        }
+        return stockQuantity - releasedQuantity;
+    }
+
+    private void prepareNewTask(WarehouseTask warehouseTask, long warehouseId) {
+        warehouseTask.setId(null);
+        warehouseTask.setWarehouseId(warehouseId);
+        warehouseTask.setApprovalStatus(ApprovalStatus.NOT_APPROVED);
+        warehouseTask.setTaskUpdatedAt(null);
+        if (warehouseTask.getTaskCreatedAt() == null) {
+            warehouseTask.setTaskCreatedAt(LocalDate.now());
+        }
     }
 
     @Transactional
     public WarehouseTask changeApproval(long warehouseId, long employeeId, long warehouseTaskId) {
         securityService.checkEmployeeAccess(employeeService.getEmployeeRoleByEmployeeId(employeeId)
                 , WarehouseSystemOperation.MODIFY, Resource.WAREHOUSE_OPERATION);
-        Warehouse warehouse = warehouseRepository.findById(warehouseId).orElseThrow(WarehouseNotFoundException::new);
-        WarehouseTask warehouseTask = warehouse.getWarehouseTasks().getWarehouseTaskList()
-                .stream().filter(task -> warehouseTaskId == task.getId()).findFirst().orElseThrow(WarehouseTaskNotExistsException::new);
+        checkWarehouseExists(warehouseId);
+        WarehouseTask warehouseTask = findTheTask(warehouseId, warehouseTaskId);
         warehouseTask.approveTask();
-        warehouse.setWarehouseTasks(new WarehouseTasks(new ArrayList<>(List.of(warehouseTask))));
-        warehouseRepository.save(warehouse);
-        return warehouseTask;
+        return warehouseTaskRepository.save(warehouseTask);
     }
 
     @Transactional
     public WarehouseTask completeWarehouseTask(WarehouseTask warehouseTask, long warehouseId) {
-        if (warehouseTask.getApprovalStatus().equals(ApprovalStatus.NOT_APPROVED)) {
+        checkWarehouseExists(warehouseId);
+        WarehouseTask storedTask = findTheTask(warehouseId, warehouseTask.getId());
+        if (!storedTask.getApprovalStatus().equals(ApprovalStatus.APPROVED)) {
             throw new TaskNotApprovedException();
         }
-        Warehouse warehouse = warehouseRepository.findById(warehouseId).orElseThrow(WarehouseNotFoundException::new);
-        warehouseTask.validateWarehouseTaskStatus();
-        validateOfProduct(warehouseTask.getProductId());
-        quantityChange(warehouseTask.getStatus(), warehouseTask.getQuantity(), warehouseTask.getProductId());
-        checkWarehouseCapacity(findProductById(warehouseTask.getProductId()),warehouseTask,warehouse);
-        warehouse.setOccupiedArea(updateOccupiedAreaBasedOnStatus(warehouse.getOccupiedArea(),
-                calculateTaskCapacity(warehouseTask.getProductId(), warehouseTask.getQuantity()), warehouseTask.getStatus()));
-        warehouseTask.setApprovalStatus(ApprovalStatus.DONE);
-        return warehouse.getWarehouseTasks().getWarehouseTaskList().stream()
-                .filter(task -> warehouseTask.getId() == task.getId()).findFirst().orElseThrow(WarehouseTaskNotExistsException::new);
+        storedTask.validateWarehouseTaskStatus();
+        validateOfProduct(storedTask.getProductId());
+        reserveWarehouseCapacity(warehouseId, occupiedAreaDeltaBasedOnStatus(
+                calculateTaskCapacity(storedTask.getProductId(), storedTask.getQuantity()), storedTask.getStatus()));
+        quantityChange(storedTask.getStatus(), storedTask.getQuantity(), storedTask.getProductId(), warehouseId);
+        storedTask.completeTask();
+        return warehouseTaskRepository.save(storedTask);
+    }
+
+
+    @Transactional
+    public WarehouseTasks approveWarehouseTasks(long warehouseId, long employeeId, List<Long> warehouseTaskIds) {
+        securityService.checkEmployeeAccess(employeeService.getEmployeeRoleByEmployeeId(employeeId)
+                , WarehouseSystemOperation.MODIFY, Resource.WAREHOUSE_OPERATION);
+        checkWarehouseExists(warehouseId);
+        Set<Long> taskIds = Set.copyOf(warehouseTaskIds);
+        warehouseTaskRepository.changeApprovalStatus(warehouseId, taskIds, ApprovalStatus.NOT_APPROVED,
+                ApprovalStatus.APPROVED, LocalDate.now());
+        return new WarehouseTasks(warehouseTaskRepository.findByWarehouseIdAndIdIn(warehouseId, taskIds));
+    }
+
+    @Transactional
+    public WarehouseTasks completeWarehouseTasks(long warehouseId, long employeeId, List<Long> warehouseTaskIds) {
+        Role role = employeeService.getEmployeeRoleByEmployeeId(employeeId);
+        checkWarehouseExists(warehouseId);
+        Set<Long> taskIds = Set.copyOf(warehouseTaskIds);
+        List<WarehouseTask> warehouseTasks = warehouseTaskRepository.findByWarehouseIdAndIdIn(warehouseId, taskIds);
+        if (warehouseTasks.size() != taskIds.size()) {
+            throw new WarehouseTaskNotExistsException();
+        }
+        for (WarehouseTask warehouseTask : warehouseTasks) {
+            if (!warehouseTask.getApprovalStatus().equals(ApprovalStatus.APPROVED)) {
+                throw new TaskNotApprovedException();
+            }
+            warehouseTask.validateWarehouseTaskStatus();
+        }
+        warehouseTasks.stream().map(task -> operationBasedOnStatus(task.getStatus())).distinct()
+                .forEach(operation -> securityService.checkEmployeeAccess(role, operation, Resource.WAREHOUSE_OPERATION));
+
+        Map<Long, ProductDto> products = productCache.findAllById(warehouseTasks.stream()
+                .map(WarehouseTask::getProductId).collect(Collectors.toSet()));
+        Map<Long, Long> stockDeltas = new HashMap<>();
+        long occupiedAreaDelta = 0;
+        for (WarehouseTask warehouseTask : warehouseTasks) {
+            ProductDto product = products.get(warehouseTask.getProductId());
+            if (product == null) {
+                throw new ProductNotExistsException("Product");
+            }
+            stockDeltas.merge(product.id(), stockDeltaBasedOnStatus(warehouseTask.getQuantity(), warehouseTask.getStatus()), Long::sum);
+            occupiedAreaDelta += occupiedAreaDeltaBasedOnStatus(product.size().getValue() * warehouseTask.getQuantity(),
+                    warehouseTask.getStatus());
+        }
+
+        if (warehouseTaskRepository.changeApprovalStatus(warehouseId, taskIds, ApprovalStatus.APPROVED,
+                ApprovalStatus.DONE, LocalDate.now()) != taskIds.size()) {
+            throw new TaskNotApprovedException();
+        }
+        reserveWarehouseCapacity(warehouseId, occupiedAreaDelta);
+        stockDeltas.forEach((productId, delta) -> {
+            if (delta != 0) {
+                applyStockDelta(productId, warehouseId, delta);
+            }
+        });
+        warehouseTasks.forEach(WarehouseTask::completeTask);
+        return new WarehouseTasks(warehouseTasks);
     }
 
+    private WarehouseSystemOperation operationBasedOnStatus(Status status) {
+        return status.equals(Status.RECEPTION_AREA) ? WarehouseSystemOperation.RECEIVE : WarehouseSystemOperation.RELEASE;
+    }
+
+    public WarehouseTaskPage searchWarehouseTasks(long warehouseId, WarehouseTaskFilter filter, Long afterId, int size) {
+        if (size < 1 || size > MAX_TASK_PAGE_SIZE) {
+            throw new IllegalDataException("Page size must be between 1 and " + MAX_TASK_PAGE_SIZE);
+        }
+        checkWarehouseExists(warehouseId);
+        List<WarehouseTask> warehouseTasks = warehouseTaskRepository.findBy(filter.toSpecification(warehouseId, afterId),
+                query -> query.sortBy(Sort.by("id")).limit(size).all());
+        Long nextAfterId = warehouseTasks.size() == size ? warehouseTasks.get(size - 1).getId() : null;
+        return new WarehouseTaskPage(warehouseTasks, nextAfterId);
+    }
 
     public WarehouseTasks getWarehouseTaskListByApproved(long warehouseId, ApprovalStatus approvalStatus) {
-        Warehouse warehouse = warehouseRepository.findById(warehouseId).orElseThrow(WarehouseNotFoundException::new);
-        return new WarehouseTasks(warehouse.getWarehouseTasks().getWarehouseTaskList()
-                .stream().filter(warehouseTask -> warehouseTask.getApprovalStatus()
-                        .equals(approvalStatus)).toList());
+        checkWarehouseExists(warehouseId);
+        return new WarehouseTasks(warehouseTaskRepository.findByWarehouseIdAndApprovalStatus(warehouseId, approvalStatus));
     }
 
     @Transactional
     public WarehouseTask modifyWarehouseTaskInformation(long warehouseId, WarehouseTask warehouseTask) {
-        Warehouse warehouse = warehouseRepository.findById(warehouseId).orElseThrow(WarehouseNotFoundException::new);
+        checkWarehouseExists(warehouseId);
         validateOfProduct(warehouseTask.getProductId());
         warehouseTask.validateWarehouseTaskStatus();
-        checkQuantityStockBeforeReleaseWithWarehouse(warehouseTask.getStatus(), warehouseTask.getProductId(), warehouseTask.getQuantity());
-        WarehouseTask foundTask = findTheTask(warehouse.getWarehouseTasks(), warehouseTask);
+        checkQuantityStockBeforeReleaseWithWarehouse(warehouseTask.getStatus(), warehouseTask.getProductId(), warehouseId, warehouseTask.getQuantity());
+        WarehouseTask foundTask = findTheTask(warehouseId, warehouseTask.getId());
         foundTask.updateWith(warehouseTask);
-        warehouseRepository.save(warehouse);
-        return foundTask;
+        return warehouseTaskRepository.save(foundTask);
     }
 
     @Transactional
     public void deleteWarehouseTask(long warehouseId, WarehouseTask warehouseTask) {
-        Warehouse warehouse = warehouseRepository.findById(warehouseId).orElseThrow(WarehouseNotFoundException::new);
-        warehouse.setWarehouseTasks(deleteTaskWithTaskList(warehouse.getWarehouseTasks(), warehouseTask));
-        warehouseRepository.save(warehouse);
+        checkWarehouseExists(warehouseId);
+        warehouseTaskRepository.delete(findTheTask(warehouseId, warehouseTask.getId()));
     }
 
-    private WarehouseTasks addTaskIntoList(WarehouseTasks warehouseTasks, WarehouseTask warehouseTask) {
-        warehouseTasks.getWarehouseTaskList().add(warehouseTask);
-        return warehouseTasks;
+    private void checkWarehouseExists(long warehouseId) {
+        if (!warehouseRepository.existsById(warehouseId)) {
+            throw new WarehouseNotFoundException();
+        }
     }
 
-    private WarehouseTasks deleteTaskWithTaskList(WarehouseTasks warehouseTasks, WarehouseTask warehouseTask) {
-        warehouseTasks.getWarehouseTaskList().removeIf(task -> task.getId() == warehouseTask.getId());
-        return warehouseTasks;
+    private WarehouseTask findTheTask(long warehouseId, Long warehouseTaskId) {
+        if (warehouseTaskId == null) {
+            throw new WarehouseTaskNotExistsException();
+        }
+        return warehouseTaskRepository.findByIdAndWarehouseId(warehouseTaskId, warehouseId)
+                .orElseThrow(WarehouseTaskNotExistsException::new);
     }
 
-    private WarehouseTask findTheTask(WarehouseTasks warehouseTasks, WarehouseTask warehouseTask) {
-        return warehouseTasks.getWarehouseTaskList().stream()
-                .filter(task -> task.getId() == warehouseTask.getId()).findFirst()
-                .orElseThrow(WarehouseTaskNotExistsException::new);
+    private void quantityChange(Status status, long quantity, long productId, long warehouseId) {
+        applyStockDelta(productId, warehouseId, stockDeltaBasedOnStatus(quantity, status));
     }
 
-    @Transactional
-    private void quantityChange(Status status, long quantity, long productId) {
-        Stock stock = stockRepository.findStockByProductId(productId).orElseThrow(StockNotExistsException::new);
-        if (status.equals(Status.RELEASE_AREA)) {
-            stock.setQuantity(stock.getQuantity() - quantity);
-            stockRepository.save(stock);
+    private long stockDeltaBasedOnStatus(long quantity, Status status) {
+        return status.equals(Status.RELEASE_AREA) ? -quantity : quantity;
+    }
+
+    private void applyStockDelta(long productId, long warehouseId, long delta) {
+        if (stockRepository.applyQuantityDelta(productId, warehouseId, delta) == 0) {
+            if (!stockRepository.existsByProductIdAndWarehouseId(productId, warehouseId)) {
+                throw new StockNotExistsException();
+            }
+            throw new StockQuantityException();
         }
-        stock.setQuantity(stock.getQuantity() + quantity);
-        stockRepository.save(stock);
     }
 
-    private long updateOccupiedAreaBasedOnStatus(long currentCapacity, long taskCapacity, Status status) {
+    private long occupiedAreaDeltaBasedOnStatus(long taskCapacity, Status status) {
         if (status.equals(Status.RECEPTION_AREA)) {
-            return currentCapacity + taskCapacity;
+            return taskCapacity;
+        }
+        return -taskCapacity;
+    }
+
+    private void reserveWarehouseCapacity(long warehouseId, long occupiedAreaDelta) {
+        if (warehouseRepository.reserveCapacity(warehouseId, occupiedAreaDelta) == 0) {
+            if (occupiedAreaDelta > 0) {
+                throw new WarehouseCapacityExceededException();
+            }
+            throw new OccupiedAreaQuantityException();
         }
-        return currentCapacity - taskCapacity;
     }
 
     private long calculateTaskCapacity(long productId, long warehouseTaskQuantity) {
-        return findProductById(productId).getSize().getValue() * warehouseTaskQuantity;
+        return findProductById(productId).size().getValue() * warehouseTaskQuantity;
     }
 
-    private void checkQuantityStockBeforeReleaseWithWarehouse(Status status, long productId, long quantity) {
+    private void checkQuantityStockBeforeReleaseWithWarehouse(Status status, long productId, long warehouseId, long quantity) {
         if (status.equals(Status.RELEASE_AREA)) {
-            Stock stock = findStockByProductId(productId);
+            Stock stock = findStockByProductIdAndWarehouseId(productId, warehouseId);
             if (stock.getQuantity() < quantity) {
                 throw new StockQuantityException();
             }
         }
     }
 
-    private Product findProductById(long productId) {
-        return productRepository.findById(productId)
+    private ProductDto findProductById(long productId) {
+        return productCache.findById(productId)
                 .orElseThrow(() -> new ProductNotExistsException("Product"));
     }
 
-    private Stock findStockByProductId(long productId) {
-        return stockRepository.findStockByProductId(productId).orElseThrow(StockNotExistsException::new);
+    private Stock findStockByProductIdAndWarehouseId(long productId, long warehouseId) {
+        return stockRepository.findStockByProductIdAndWarehouseId(productId, warehouseId).orElseThrow(StockNotExistsException::new);
     }
 
     private void validateOfProduct(long productId) {
-        if (!productRepository.existsById(productId)) {
+        if (productCache.findById(productId).isEmpty()) {
             throw new ProductNotExistsException("Product");
         }
     }
 
-    private void checkWarehouseCapacity(Product product, WarehouseTask warehouseTask, Warehouse warehouse) {
-        if (warehouse.calculateAvailableWarehouseCapacity() < product.getSize().getValue() * warehouseTask.getQuantity()) {
+    private void checkWarehouseCapacity(ProductDto product, WarehouseTask warehouseTask, Warehouse warehouse) {
+        if (warehouse.calculateAvailableWarehouseCapacity() < product.size().getValue() * warehouseTask.getQuantity()) {
             throw new WarehouseCapacityExceededException();
         }
 
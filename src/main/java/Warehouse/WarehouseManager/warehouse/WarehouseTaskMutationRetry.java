@@ -0,0 +1,68 @@
+package Warehouse.WarehouseManager.warehouse;
+
+import Warehouse.WarehouseManager.exception.WarehouseTaskConflictException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+public class WarehouseTaskMutationRetry {
+
+    private WarehouseContentionMetrics warehouseContentionMetrics;
+    private int maxAttempts;
+    private long initialBackoffMillis;
+
+    @Autowired
+    public WarehouseTaskMutationRetry(WarehouseContentionMetrics warehouseContentionMetrics
+            , @Value("${warehouse.task.retry.max-attempts:3}") int maxAttempts
+            , @Value("${warehouse.task.retry.initial-backoff-ms:25}") long initialBackoffMillis) {
+        this.warehouseContentionMetrics = warehouseContentionMetrics;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    public <T> T execute(long warehouseId, Supplier<T> mutation) {
+        // the id comes from the request, so it is only recorded once the mutation has reached an existing warehouse
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = mutation.get();
+                if (attempt == 1) {
+                    warehouseContentionMetrics.recordMutation(warehouseId);
+                }
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == 1) {
+                    warehouseContentionMetrics.recordMutation(warehouseId);
+                }
+                warehouseContentionMetrics.recordConflict(warehouseId);
+                if (attempt >= maxAttempts) {
+                    warehouseContentionMetrics.recordExhaustedRetries(warehouseId);
+                    throw new WarehouseTaskConflictException();
+                }
+                warehouseContentionMetrics.recordRetry(warehouseId);
+                backOff(attempt);
+            }
+        }
+    }
+
+    public void execute(long warehouseId, Runnable mutation) {
+        execute(warehouseId, () -> {
+            mutation.run();
+            return null;
+        });
+    }
+
+    private void backOff(int attempt) {
+        long backoff = initialBackoffMillis << (attempt - 1);
+        try {
+            Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WarehouseTaskConflictException();
+        }
+    }
+}
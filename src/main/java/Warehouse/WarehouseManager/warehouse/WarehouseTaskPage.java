@@ -0,0 +1,6 @@
+package Warehouse.WarehouseManager.warehouse;
+
+import java.util.List;
+
+public record WarehouseTaskPage(List<WarehouseTask> warehouseTaskList, Long nextAfterId) {
+}
@@ -0,0 +1,59 @@
+package Warehouse.WarehouseManager.warehouse;
+
+import Warehouse.WarehouseManager.enums.ApprovalStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface WarehouseTaskRepository extends JpaRepository<WarehouseTask, Long>, JpaSpecificationExecutor<WarehouseTask> {
+    List<WarehouseTask> findByWarehouseId(long warehouseId);
+
+    List<WarehouseTask> findByWarehouseIdIn(Collection<Long> warehouseIds);
+
+    List<WarehouseTask> findByWarehouseIdAndApprovalStatus(long warehouseId, ApprovalStatus approvalStatus);
+
+    Optional<WarehouseTask> findByIdAndWarehouseId(long id, long warehouseId);
+
+    List<WarehouseTask> findByWarehouseIdAndIdIn(long warehouseId, Collection<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WarehouseTask t SET t.approvalStatus = :newStatus, t.taskUpdatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.warehouseId = :warehouseId AND t.id IN :ids AND t.approvalStatus = :currentStatus")
+    int changeApprovalStatus(long warehouseId, Collection<Long> ids, ApprovalStatus currentStatus,
+                             ApprovalStatus newStatus, LocalDate updatedAt);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new Warehouse.WarehouseManager.warehouse.WarehouseTask(t.id, t.productId, t.quantity, t.approvalStatus, " +
+            "t.taskCreatedAt, t.taskUpdatedAt, t.status, t.warehouseId) FROM WarehouseTask t ORDER BY t.id")
+    Stream<WarehouseTask> streamAllTasks();
+
+    @Query(value = "SELECT create_warehouse_task_archive_partitions(:cutoff)", nativeQuery = true)
+    int createArchivePartitions(LocalDate cutoff);
+
+    @Transactional
+    @Modifying
+    @Query(value = "WITH moved AS (DELETE FROM warehouse_task WHERE id IN (" +
+            "SELECT id FROM warehouse_task WHERE approval_status = 'DONE' " +
+            "AND COALESCE(task_updated_at, task_created_at, CURRENT_DATE) < :cutoff ORDER BY id LIMIT :batchSize) " +
+            "RETURNING *) " +
+            "INSERT INTO warehouse_task_archive (id, warehouse_id, product_id, quantity, approval_status, " +
+            "task_created_at, task_updated_at, status, completed_at, archived_at) " +
+            "SELECT id, warehouse_id, product_id, quantity, approval_status, task_created_at, task_updated_at, status, " +
+            "COALESCE(task_updated_at, task_created_at, CURRENT_DATE), CURRENT_DATE FROM moved", nativeQuery = true)
+    int moveCompletedTasksToArchive(LocalDate cutoff, int batchSize);
+}
@@ -0,0 +1,27 @@
+-- Plans and server-side timings for the queries ProductService.searchProducts issues, run after product_search_seed.sql.
+-- The prefix statements are the SQL Hibernate generates from ProductPageFilter; the size predicate is only present when a size is given.
+-- The README figures are the "Execution Time" lines across 5 runs of each statement on a warm cache.
+
+-- prefix 'Copper Hinge'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.product_name, p.product_size FROM product p
+WHERE p.product_name LIKE 'Copper Hinge%' ESCAPE '\'
+ORDER BY p.product_name FETCH FIRST 20 ROWS ONLY;
+
+-- prefix 'Copper Hinge' + size BIG
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.product_name, p.product_size FROM product p
+WHERE p.product_size = 'BIG' AND p.product_name LIKE 'Copper Hinge%' ESCAPE '\'
+ORDER BY p.product_name FETCH FIRST 20 ROWS ONLY;
+
+-- fuzzy 'Coper Hinge'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.product_name, p.product_size FROM product p
+WHERE p.product_name % 'Coper Hinge'
+ORDER BY p.product_name <-> 'Coper Hinge' LIMIT 20;
+
+-- fuzzy 'Coper Hinge Compact 0424242' + size BIG
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.product_name, p.product_size FROM product p
+WHERE p.product_name % 'Coper Hinge Compact 0424242' AND p.product_size = 'BIG'
+ORDER BY p.product_name <-> 'Coper Hinge Compact 0424242' LIMIT 20;
@@ -0,0 +1,14 @@
+-- Synthetic 1,000,000-product catalog behind the product search latencies in README.md.
+-- Run against a scratch database that Flyway has already migrated, never against a real one.
+-- Names look like 'Copper Hinge Compact 0424242': 15 materials x 10 parts gives 6,667 names per material/part pair.
+
+INSERT INTO product (product_name, product_size)
+SELECT (ARRAY['Copper', 'Steel', 'Brass', 'Aluminium', 'Oak', 'Pine', 'Walnut', 'Plastic', 'Rubber', 'Glass',
+              'Ceramic', 'Nylon', 'Titanium', 'Zinc', 'Bronze'])[1 + i % 15]
+           || ' ' || (ARRAY['Hinge', 'Bracket', 'Bolt', 'Washer', 'Panel', 'Handle', 'Spring', 'Clamp', 'Valve', 'Gasket'])[1 + (i / 15) % 10]
+           || ' ' || (ARRAY['Compact', 'Heavy', 'Slim', 'Wide', 'Mini'])[1 + (i / 150) % 5]
+           || ' ' || lpad(i::text, 7, '0'),
+       (ARRAY['SMALL', 'MEDIUM', 'BIG', 'PALLET'])[1 + i % 4]
+FROM generate_series(1, 1000000) AS g(i);
+
+ANALYZE product;
@@ -0,0 +1,3 @@
+CREATE EXTENSION if NOT EXISTS pg_trgm;
+
+CREATE INDEX if NOT EXISTS idx_product_name_trgm ON product USING gist (product_name gist_trgm_ops);
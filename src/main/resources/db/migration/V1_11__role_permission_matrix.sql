@@ -0,0 +1,53 @@
+CREATE TABLE if NOT EXISTS role_permission (
+    role VARCHAR(50) NOT NULL,
+    operation VARCHAR(50) NOT NULL,
+    resource VARCHAR(50) NOT NULL,
+    PRIMARY KEY (role, operation, resource)
+);
+
+CREATE TABLE if NOT EXISTS permission_matrix_version (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL
+);
+
+INSERT INTO permission_matrix_version (id, version) VALUES (1, 1) ON CONFLICT (id) DO NOTHING;
+
+INSERT INTO role_permission (role, operation, resource) VALUES
+    ('ADMIN', 'ADD', 'PRODUCT'),
+    ('ADMIN', 'ADD', 'WAREHOUSE_OPERATION'),
+    ('ADMIN', 'ADD', 'WAREHOUSE'),
+    ('ADMIN', 'RECEIVE', 'WAREHOUSE_OPERATION'),
+    ('ADMIN', 'RELEASE', 'WAREHOUSE_OPERATION'),
+    ('ADMIN', 'STORE', 'PRODUCT'),
+    ('ADMIN', 'STORE', 'WAREHOUSE_OPERATION'),
+    ('ADMIN', 'STORE', 'WAREHOUSE'),
+    ('ADMIN', 'MODIFY', 'PRODUCT'),
+    ('ADMIN', 'MODIFY', 'WAREHOUSE_OPERATION'),
+    ('ADMIN', 'MODIFY', 'WAREHOUSE'),
+    ('ADMIN', 'REMOVAL', 'PRODUCT'),
+    ('ADMIN', 'REMOVAL', 'WAREHOUSE_OPERATION'),
+    ('ADMIN', 'REMOVAL', 'WAREHOUSE'),
+    ('BUSINESS_OWNER', 'ADD', 'PRODUCT'),
+    ('BUSINESS_OWNER', 'RECEIVE', 'WAREHOUSE_OPERATION'),
+    ('BUSINESS_OWNER', 'RELEASE', 'WAREHOUSE_OPERATION'),
+    ('BUSINESS_OWNER', 'STORE', 'PRODUCT'),
+    ('BUSINESS_OWNER', 'STORE', 'WAREHOUSE_OPERATION'),
+    ('BUSINESS_OWNER', 'MODIFY', 'PRODUCT'),
+    ('BUSINESS_OWNER', 'MODIFY', 'WAREHOUSE_OPERATION'),
+    ('BUSINESS_OWNER', 'REMOVAL', 'PRODUCT'),
+    ('BUSINESS_OWNER', 'REMOVAL', 'WAREHOUSE_OPERATION'),
+    ('WAREHOUSE_OPERATOR', 'RECEIVE', 'WAREHOUSE_OPERATION'),
+    ('WAREHOUSE_OPERATOR', 'RELEASE', 'WAREHOUSE_OPERATION')
+ON CONFLICT DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bump_permission_matrix_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE permission_matrix_version SET version = version + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS role_permission_changed ON role_permission;
+CREATE TRIGGER role_permission_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON role_permission
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_permission_matrix_version();
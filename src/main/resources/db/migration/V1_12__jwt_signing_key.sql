@@ -0,0 +1,10 @@
+CREATE TABLE if NOT EXISTS jwt_signing_key (
+    kid VARCHAR(64) PRIMARY KEY,
+    algorithm VARCHAR(16) NOT NULL,
+    public_key TEXT NOT NULL,
+    private_key TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    retired_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX if NOT EXISTS idx_jwt_signing_key_retired_at ON jwt_signing_key (retired_at);
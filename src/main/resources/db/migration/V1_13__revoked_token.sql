@@ -0,0 +1,8 @@
+CREATE TABLE if NOT EXISTS revoked_token (
+    token_id VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX if NOT EXISTS idx_revoked_token_revoked_at ON revoked_token (revoked_at);
+CREATE INDEX if NOT EXISTS idx_revoked_token_expires_at ON revoked_token (expires_at);
@@ -0,0 +1,7 @@
+CREATE TABLE if NOT EXISTS refresh_token_family (
+    family_id VARCHAR(64) PRIMARY KEY,
+    current_token_id VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX if NOT EXISTS idx_refresh_token_family_expires_at ON refresh_token_family (expires_at);
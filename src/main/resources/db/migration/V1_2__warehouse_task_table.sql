@@ -0,0 +1,38 @@
+CREATE TABLE if NOT EXISTS warehouse_task (
+    id BIGSERIAL PRIMARY KEY,
+    warehouse_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    approval_status VARCHAR(50) NOT NULL,
+    task_created_at DATE,
+    task_updated_at DATE,
+    status VARCHAR(50) NOT NULL,
+    FOREIGN KEY (warehouse_id) REFERENCES warehouse(id) ON DELETE CASCADE
+);
+
+CREATE INDEX if NOT EXISTS idx_warehouse_task_warehouse_approval ON warehouse_task (warehouse_id, approval_status);
+CREATE INDEX if NOT EXISTS idx_warehouse_task_warehouse_created ON warehouse_task (warehouse_id, task_created_at);
+
+-- Task ids were only unique inside a single warehouse document, so the moved rows get new ids from the sequence.
+-- Dates were written by Jackson either as ISO strings or as [year, month, day] arrays.
+INSERT INTO warehouse_task (warehouse_id, product_id, quantity, approval_status, task_created_at, task_updated_at, status)
+SELECT w.id,
+       (task ->> 'product_id')::BIGINT,
+       (task ->> 'quantity')::BIGINT,
+       COALESCE(task ->> 'approval_status', 'NOT_APPROVED'),
+       CASE jsonb_typeof(task -> 'task_created_at')
+           WHEN 'string' THEN (task ->> 'task_created_at')::DATE
+           WHEN 'array' THEN make_date((task -> 'task_created_at' ->> 0)::INT, (task -> 'task_created_at' ->> 1)::INT, (task -> 'task_created_at' ->> 2)::INT)
+       END,
+       CASE jsonb_typeof(task -> 'task_updated_at')
+           WHEN 'string' THEN (task ->> 'task_updated_at')::DATE
+           WHEN 'array' THEN make_date((task -> 'task_updated_at' ->> 0)::INT, (task -> 'task_updated_at' ->> 1)::INT, (task -> 'task_updated_at' ->> 2)::INT)
+       END,
+       task ->> 'status'
+FROM warehouse w
+CROSS JOIN LATERAL jsonb_array_elements(w.warehouse_tasks -> 'warehouseTaskList') WITH ORDINALITY AS tasks(task, position)
+WHERE jsonb_typeof(w.warehouse_tasks -> 'warehouseTaskList') = 'array'
+ORDER BY w.id, tasks.position;
+
+ALTER TABLE warehouse
+DROP COLUMN IF EXISTS warehouse_tasks;
@@ -0,0 +1,8 @@
+ALTER TABLE product
+ALTER COLUMN product_size TYPE VARCHAR(50)
+USING CASE product_size
+    WHEN 0 THEN 'SMALL'
+    WHEN 1 THEN 'MEDIUM'
+    WHEN 2 THEN 'BIG'
+    WHEN 3 THEN 'PALLET'
+END;
@@ -0,0 +1,16 @@
+-- Merge duplicated (product, warehouse) stock rows into the oldest one before enforcing uniqueness.
+UPDATE stock s
+SET quantity = duplicates.total_quantity
+FROM (SELECT MIN(id) AS id, SUM(quantity) AS total_quantity
+      FROM stock
+      GROUP BY product_id, warehouse_id
+      HAVING COUNT(*) > 1) duplicates
+WHERE s.id = duplicates.id;
+
+DELETE FROM stock s
+USING stock kept
+WHERE s.product_id = kept.product_id
+  AND s.warehouse_id = kept.warehouse_id
+  AND s.id > kept.id;
+
+CREATE UNIQUE INDEX if NOT EXISTS uq_stock_product_warehouse ON stock (product_id, warehouse_id);
@@ -0,0 +1,6 @@
+DROP INDEX if EXISTS idx_warehouse_task_warehouse_approval;
+
+CREATE INDEX if NOT EXISTS idx_warehouse_task_warehouse_id ON warehouse_task (warehouse_id, id);
+CREATE INDEX if NOT EXISTS idx_warehouse_task_warehouse_approval_id ON warehouse_task (warehouse_id, approval_status, id);
+CREATE INDEX if NOT EXISTS idx_warehouse_task_warehouse_status_id ON warehouse_task (warehouse_id, status, id);
+CREATE INDEX if NOT EXISTS idx_warehouse_task_warehouse_product_id ON warehouse_task (warehouse_id, product_id, id);
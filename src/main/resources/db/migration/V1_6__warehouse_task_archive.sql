@@ -0,0 +1,34 @@
+CREATE TABLE if NOT EXISTS warehouse_task_archive (
+    id BIGINT NOT NULL,
+    warehouse_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    approval_status VARCHAR(50) NOT NULL,
+    task_created_at DATE,
+    task_updated_at DATE,
+    status VARCHAR(50) NOT NULL,
+    completed_at DATE NOT NULL,
+    archived_at DATE NOT NULL,
+    PRIMARY KEY (id, completed_at)
+) PARTITION BY RANGE (completed_at);
+
+CREATE INDEX if NOT EXISTS idx_warehouse_task_archive_warehouse_completed ON warehouse_task_archive (warehouse_id, completed_at, id);
+
+CREATE OR REPLACE FUNCTION create_warehouse_task_archive_partitions(cutoff DATE) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE;
+    partitions INTEGER := 0;
+BEGIN
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', COALESCE(task_updated_at, task_created_at, CURRENT_DATE))::DATE
+        FROM warehouse_task
+        WHERE approval_status = 'DONE' AND COALESCE(task_updated_at, task_created_at, CURRENT_DATE) < cutoff
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF warehouse_task_archive FOR VALUES FROM (%L) TO (%L)',
+                       'warehouse_task_archive_' || to_char(month_start, 'YYYYMM'),
+                       month_start, (month_start + INTERVAL '1 month')::DATE);
+        partitions := partitions + 1;
+    END LOOP;
+    RETURN partitions;
+END;
+$$ LANGUAGE plpgsql;
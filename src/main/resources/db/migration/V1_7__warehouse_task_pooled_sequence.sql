@@ -0,0 +1,2 @@
+ALTER SEQUENCE warehouse_task_id_seq INCREMENT BY 50;
+ALTER TABLE warehouse_task ALTER COLUMN id DROP DEFAULT;
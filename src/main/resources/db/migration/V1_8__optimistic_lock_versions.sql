@@ -0,0 +1,2 @@
+ALTER TABLE warehouse ADD COLUMN if NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE warehouse_task ADD COLUMN if NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
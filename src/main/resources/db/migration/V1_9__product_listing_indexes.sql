@@ -0,0 +1,2 @@
+CREATE INDEX if NOT EXISTS idx_product_size_id ON product (product_size, id);
+CREATE INDEX if NOT EXISTS idx_product_name_pattern ON product (product_name varchar_pattern_ops);
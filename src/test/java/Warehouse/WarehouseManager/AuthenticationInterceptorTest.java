@@ -0,0 +1,53 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.Role;
+import Warehouse.WarehouseManager.exception.IncorrectTokenDataException;
+import Warehouse.WarehouseManager.security.AuthenticatedEmployee;
+import Warehouse.WarehouseManager.security.AuthenticationInterceptor;
+import Warehouse.WarehouseManager.security.SecurityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AuthenticationInterceptorTest {
+
+    private final SecurityService securityService = mock(SecurityService.class);
+    private final AuthenticationInterceptor authenticationInterceptor = new AuthenticationInterceptor(securityService);
+
+    @Test
+    public void shouldRejectRequestWithoutBearerToken() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/product/1");
+        //when then
+        assertThrows(IncorrectTokenDataException.class,
+                () -> authenticationInterceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        verifyNoInteractions(securityService);
+    }
+
+    @Test
+    public void shouldStoreAuthenticatedEmployeeOnRequest() {
+        //given
+        AuthenticatedEmployee authenticatedEmployee = new AuthenticatedEmployee(1L, "szymon", Role.ADMIN, 1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/product/1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        when(securityService.authenticate("Bearer token")).thenReturn(authenticatedEmployee);
+        //when
+        boolean proceed = authenticationInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        //then
+        assertTrue(proceed);
+        assertEquals(authenticatedEmployee, request.getAttribute(SecurityService.AUTHENTICATED_EMPLOYEE_ATTRIBUTE));
+    }
+
+    @Test
+    public void shouldLetPreflightRequestThrough() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/product/1");
+        //when then
+        assertTrue(authenticationInterceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        verifyNoInteractions(securityService);
+    }
+}
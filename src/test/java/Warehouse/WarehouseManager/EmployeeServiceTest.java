@@ -7,10 +7,14 @@ import Warehouse.WarehouseManager.employee.EmployeeDto;
 import Warehouse.WarehouseManager.employee.EmployeeRepository;
 import Warehouse.WarehouseManager.employee.EmployeeService;
 import Warehouse.WarehouseManager.enums.Role;
+import Warehouse.WarehouseManager.exception.AccessDeniedException;
 import Warehouse.WarehouseManager.exception.EmailAlreadyExistsException;
 import Warehouse.WarehouseManager.exception.EmployeeNotExistsException;
 import Warehouse.WarehouseManager.exception.EmptyDataException;
+import Warehouse.WarehouseManager.exception.IncorrectTokenDataException;
 import Warehouse.WarehouseManager.exception.UsernameAlreadyExistsException;
+import Warehouse.WarehouseManager.security.AuthenticatedEmployee;
+import Warehouse.WarehouseManager.security.LoginResponseDto;
 import Warehouse.WarehouseManager.security.SecurityService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -106,6 +110,67 @@ public class EmployeeServiceTest {
         Assertions.assertThrows(UsernameAlreadyExistsException.class, () -> employeeService.employeeRegistration(createEmployeeTwo().toEmployeeDto()));
     }
 
+    @Test
+    public void shouldRehashPasswordOnLoginWhenBCryptCostChanged(){
+        //given
+        Employee employee = createEmployeeTwo();
+        when(employeeRepository.findEmployeeByUsername("szymon")).thenReturn(Optional.of(employee));
+        when(securityService.checkPassword("1234", "hashed_password")).thenReturn(true);
+        when(securityService.needsRehash("hashed_password")).thenReturn(true);
+        when(securityService.encodePassword("1234")).thenReturn("rehashed_password");
+        when(securityService.issueTokens(any(EmployeeDto.class))).thenReturn(new LoginResponseDto("access", "refresh"));
+        //when
+        employeeService.employeeLogin(new EmployeeDto(0L, "szymon", "1234", null, false, null, null, null, null, null));
+        //then
+        assertEquals("rehashed_password", employee.getPassword());
+        verify(employeeRepository).save(employee);
+    }
+
+    @Test
+    public void shouldKeepPasswordHashOnLoginWhenBCryptCostUnchanged(){
+        //given
+        Employee employee = createEmployeeTwo();
+        when(employeeRepository.findEmployeeByUsername("szymon")).thenReturn(Optional.of(employee));
+        when(securityService.checkPassword("1234", "hashed_password")).thenReturn(true);
+        when(securityService.needsRehash("hashed_password")).thenReturn(false);
+        when(securityService.issueTokens(any(EmployeeDto.class))).thenReturn(new LoginResponseDto("access", "refresh"));
+        //when
+        employeeService.employeeLogin(new EmployeeDto(0L, "szymon", "1234", null, false, null, null, null, null, null));
+        //then
+        assertEquals("hashed_password", employee.getPassword());
+        verify(securityService, never()).encodePassword(any(String.class));
+        verify(employeeRepository, times(1)).findEmployeeByUsername("szymon");
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    public void shouldTakeRoleFromAuthenticatedEmployeeWithoutDatabaseLookup(){
+        //given
+        when(securityService.getAuthenticatedEmployee()).thenReturn(Optional.of(new AuthenticatedEmployee(1L, "szymon", Role.ADMIN, 1L)));
+        //when
+        Role role = employeeService.getEmployeeRoleByEmployeeId(1L);
+        //then
+        assertEquals(Role.ADMIN, role);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    public void shouldThrowAccessDeniedExceptionWhenAuthenticatedEmployeeActsAsAnotherEmployee(){
+        //given
+        when(securityService.getAuthenticatedEmployee()).thenReturn(Optional.of(new AuthenticatedEmployee(1L, "szymon", Role.ADMIN, 1L)));
+        //when then
+        assertThrows(AccessDeniedException.class, () -> employeeService.getEmployeeRoleByEmployeeId(2L));
+    }
+
+    @Test
+    public void shouldRejectRoleLookupWhenRequestIsNotAuthenticated(){
+        //given
+        when(securityService.getAuthenticatedEmployee()).thenReturn(Optional.empty());
+        //when then
+        assertThrows(IncorrectTokenDataException.class, () -> employeeService.getEmployeeRoleByEmployeeId(1L));
+        verifyNoInteractions(employeeRepository);
+    }
+
     @Test
     public void shouldThrowEmailAlreadyExistsExceptionWhenEmailExists(){
         //given
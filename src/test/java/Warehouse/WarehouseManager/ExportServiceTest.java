@@ -0,0 +1,142 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.ApprovalStatus;
+import Warehouse.WarehouseManager.enums.ProductSize;
+import Warehouse.WarehouseManager.enums.Status;
+import Warehouse.WarehouseManager.export.ExportService;
+import Warehouse.WarehouseManager.product.Product;
+import Warehouse.WarehouseManager.product.ProductRepository;
+import Warehouse.WarehouseManager.stock.Stock;
+import Warehouse.WarehouseManager.stock.StockRepository;
+import Warehouse.WarehouseManager.warehouse.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ExportServiceTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private StockRepository stockRepository;
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+    @Autowired
+    private WarehouseTaskRepository warehouseTaskRepository;
+    @Autowired
+    private ArchivedWarehouseTaskRepository archivedWarehouseTaskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ExportService exportService;
+    private TransactionTemplate readOnlyTransaction;
+    private Product product;
+    private Warehouse warehouse;
+    private Stock stock;
+
+    @BeforeEach
+    public void setUp() {
+        exportService = new ExportService(productRepository, stockRepository, warehouseTaskRepository,
+                archivedWarehouseTaskRepository, null, null, objectMapper);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        String suffix = String.valueOf(System.nanoTime());
+        product = new Product();
+        product.setName("export-" + suffix);
+        product.setSize(ProductSize.SMALL);
+        product = productRepository.save(product);
+        warehouse = new Warehouse();
+        warehouse.setName("export-" + suffix);
+        warehouse.setCapacity(10000L);
+        warehouse.setOccupiedArea(0L);
+        warehouse = warehouseRepository.save(warehouse);
+        stock = new Stock();
+        stock.setProduct(product);
+        stock.setWarehouse(warehouse);
+        stock.setQuantity(7L);
+        stock = stockRepository.save(stock);
+        warehouseTaskRepository.save(new WarehouseTask(null, product.getId(), 3L, ApprovalStatus.APPROVED,
+                LocalDate.of(2024, 5, 1), null, Status.RECEPTION_AREA, warehouse.getId()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stockRepository.deleteById(stock.getId());
+        warehouseRepository.deleteById(warehouse.getId());
+        productRepository.deleteById(product.getId());
+    }
+
+    @Test
+    public void shouldExportProductsAsNewlineDelimitedJson() throws IOException {
+        //when
+        List<JsonNode> rows = export(exportService::exportProducts);
+        //then
+        assertTrue(rows.stream().anyMatch(row -> row.get("name").asText().equals(product.getName())
+                && row.get("size").asText().equals("SMALL")));
+    }
+
+    @Test
+    public void shouldExportStockRows() throws IOException {
+        //when
+        List<JsonNode> rows = export(exportService::exportStocks);
+        //then
+        assertTrue(rows.stream().anyMatch(row -> row.get("stockId").asLong() == stock.getId()
+                && row.get("productName").asText().equals(product.getName())
+                && row.get("quantity").asLong() == 7L));
+    }
+
+    @Test
+    public void shouldExportWarehouseTasks() throws IOException {
+        //when
+        List<JsonNode> rows = export(exportService::exportWarehouseTasks);
+        //then
+        assertTrue(rows.stream().anyMatch(row -> row.get("warehouse_id").asLong() == warehouse.getId()
+                && row.get("quantity").asLong() == 3L
+                && row.get("task_created_at").toString().contains("2024")));
+    }
+
+    private List<JsonNode> export(Exporter exporter) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try {
+                exporter.export(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : lines) {
+            rows.add(objectMapper.readTree(line));
+        }
+        return rows;
+    }
+
+    private interface Exporter {
+        void export(OutputStream outputStream) throws IOException;
+    }
+}
@@ -0,0 +1,88 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.exception.EmptyDataException;
+import Warehouse.WarehouseManager.exception.PasswordHashingUnavailableException;
+import Warehouse.WarehouseManager.security.PasswordHashExecutor;
+import Warehouse.WarehouseManager.security.PasswordHashStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashExecutorTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @AfterEach
+    public void tearDown() {
+        callers.shutdownNow();
+        passwordHashExecutor.destroy();
+    }
+
+    @Test
+    public void shouldRejectImmediatelyWhenWorkersAndQueueAreFull() throws Exception {
+        //given
+        passwordHashExecutor = new PasswordHashExecutor(1, 1, 5000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<Future<String>> blockedCalls = new ArrayList<>();
+        blockedCalls.add(callers.submit(() -> passwordHashExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "first";
+        })));
+        started.await(5, TimeUnit.SECONDS);
+        blockedCalls.add(callers.submit(() -> passwordHashExecutor.execute(() -> "queued")));
+        while (passwordHashExecutor.getStats().queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+        //when
+        long start = System.nanoTime();
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordHashExecutor.execute(() -> "rejected"));
+        long rejectionMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        //then
+        assertTrue(rejectionMillis < 1000);
+        assertEquals("first", blockedCalls.get(0).get(5, TimeUnit.SECONDS));
+        assertEquals("queued", blockedCalls.get(1).get(5, TimeUnit.SECONDS));
+        PasswordHashStats stats = passwordHashExecutor.getStats();
+        assertEquals(2, stats.hashes());
+        assertEquals(1, stats.rejections());
+        assertEquals(1, stats.queueCapacity());
+    }
+
+    @Test
+    public void shouldFailWithServiceUnavailableWhenHashingTimesOut() {
+        //given
+        passwordHashExecutor = new PasswordHashExecutor(1, 1, 50);
+        //when then
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordHashExecutor.execute(() -> {
+            await(new CountDownLatch(1));
+            return "never";
+        }));
+        assertEquals(1, passwordHashExecutor.getStats().rejections());
+    }
+
+    @Test
+    public void shouldPropagateHashingExceptions() {
+        //given
+        passwordHashExecutor = new PasswordHashExecutor(1, 1, 5000);
+        //when then
+        assertThrows(EmptyDataException.class, () -> passwordHashExecutor.execute(() -> {
+            throw new EmptyDataException();
+        }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
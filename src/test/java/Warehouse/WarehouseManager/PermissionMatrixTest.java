@@ -0,0 +1,118 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.Resource;
+import Warehouse.WarehouseManager.enums.Role;
+import Warehouse.WarehouseManager.enums.WarehouseSystemOperation;
+import Warehouse.WarehouseManager.security.PermissionMatrix;
+import Warehouse.WarehouseManager.security.PermissionMatrixService;
+import Warehouse.WarehouseManager.security.RolePermission;
+import Warehouse.WarehouseManager.security.RolePermissionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PermissionMatrixTest {
+
+    @Mock
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Test
+    public void shouldGrantExactlyTheLegacyRolePermissions() {
+        //given
+        Map<Role, Map<WarehouseSystemOperation, List<Resource>>> legacyAccess = createLegacyAccess();
+        //when then
+        for (Role role : Role.values()) {
+            for (WarehouseSystemOperation operation : WarehouseSystemOperation.values()) {
+                for (Resource resource : Resource.values()) {
+                    boolean expected = legacyAccess.get(role).getOrDefault(operation, List.of()).contains(resource);
+                    assertEquals(expected, role.hasAccessTo(operation, resource), role + " " + operation + " " + resource);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldGrantNothingWhenTableIsEmpty() {
+        //given
+        when(rolePermissionRepository.findPermissionMatrixVersion()).thenReturn(1L);
+        when(rolePermissionRepository.findAll()).thenReturn(List.of());
+        //when
+        PermissionMatrix permissionMatrix = new PermissionMatrixService(rolePermissionRepository).getPermissionMatrix();
+        //then
+        for (Role role : Role.values()) {
+            for (WarehouseSystemOperation operation : WarehouseSystemOperation.values()) {
+                for (Resource resource : Resource.values()) {
+                    assertFalse(permissionMatrix.hasAccess(role, operation, resource), role + " " + operation + " " + resource);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldLoadPermissionsFromTableAndIgnoreUnknownNames() {
+        //given
+        when(rolePermissionRepository.findPermissionMatrixVersion()).thenReturn(4L);
+        when(rolePermissionRepository.findAll()).thenReturn(List.of(
+                new RolePermission("WAREHOUSE_OPERATOR", "APPROVAL", "WAREHOUSE_OPERATION"),
+                new RolePermission("WAREHOUSE_OPERATOR", "RECEIVE", "WAREHOUSE_OPERATION"),
+                new RolePermission("AUDITOR", "STORE", "PRODUCT"),
+                new RolePermission("ADMIN", "ARCHIVE", "WAREHOUSE")));
+        //when
+        PermissionMatrix permissionMatrix = new PermissionMatrixService(rolePermissionRepository).getPermissionMatrix();
+        //then
+        assertEquals(4L, permissionMatrix.getVersion());
+        assertTrue(permissionMatrix.hasAccess(Role.WAREHOUSE_OPERATOR, WarehouseSystemOperation.APPROVAL, Resource.WAREHOUSE_OPERATION));
+        assertTrue(permissionMatrix.hasAccess(Role.WAREHOUSE_OPERATOR, WarehouseSystemOperation.RECEIVE, Resource.WAREHOUSE_OPERATION));
+        assertFalse(permissionMatrix.hasAccess(Role.WAREHOUSE_OPERATOR, WarehouseSystemOperation.RELEASE, Resource.WAREHOUSE_OPERATION));
+        assertFalse(permissionMatrix.hasAccess(Role.ADMIN, WarehouseSystemOperation.ADD, Resource.WAREHOUSE));
+    }
+
+    @Test
+    public void shouldReloadOnlyWhenVersionChanges() {
+        //given
+        when(rolePermissionRepository.findPermissionMatrixVersion()).thenReturn(1L, 1L, 2L);
+        when(rolePermissionRepository.findAll()).thenReturn(
+                List.of(new RolePermission("BUSINESS_OWNER", "ADD", "PRODUCT")),
+                List.of(new RolePermission("BUSINESS_OWNER", "ADD", "WAREHOUSE")));
+        PermissionMatrixService permissionMatrixService = new PermissionMatrixService(rolePermissionRepository);
+        //when then
+        assertFalse(permissionMatrixService.reloadIfChanged());
+        assertTrue(permissionMatrixService.getPermissionMatrix().hasAccess(Role.BUSINESS_OWNER, WarehouseSystemOperation.ADD, Resource.PRODUCT));
+        assertTrue(permissionMatrixService.reloadIfChanged());
+        assertEquals(2L, permissionMatrixService.getPermissionMatrix().getVersion());
+        assertFalse(permissionMatrixService.getPermissionMatrix().hasAccess(Role.BUSINESS_OWNER, WarehouseSystemOperation.ADD, Resource.PRODUCT));
+        assertTrue(permissionMatrixService.getPermissionMatrix().hasAccess(Role.BUSINESS_OWNER, WarehouseSystemOperation.ADD, Resource.WAREHOUSE));
+    }
+
+    private Map<Role, Map<WarehouseSystemOperation, List<Resource>>> createLegacyAccess() {
+        List<Resource> allResources = List.of(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION, Resource.WAREHOUSE);
+        List<Resource> productAndOperation = List.of(Resource.PRODUCT, Resource.WAREHOUSE_OPERATION);
+        List<Resource> operation = List.of(Resource.WAREHOUSE_OPERATION);
+        Map<Role, Map<WarehouseSystemOperation, List<Resource>>> legacyAccess = new EnumMap<>(Role.class);
+        legacyAccess.put(Role.ADMIN, Map.of(
+                WarehouseSystemOperation.ADD, allResources,
+                WarehouseSystemOperation.RECEIVE, operation,
+                WarehouseSystemOperation.RELEASE, operation,
+                WarehouseSystemOperation.STORE, allResources,
+                WarehouseSystemOperation.MODIFY, allResources,
+                WarehouseSystemOperation.REMOVAL, allResources));
+        legacyAccess.put(Role.BUSINESS_OWNER, Map.of(
+                WarehouseSystemOperation.ADD, List.of(Resource.PRODUCT),
+                WarehouseSystemOperation.RECEIVE, operation,
+                WarehouseSystemOperation.RELEASE, operation,
+                WarehouseSystemOperation.STORE, productAndOperation,
+                WarehouseSystemOperation.MODIFY, productAndOperation,
+                WarehouseSystemOperation.REMOVAL, productAndOperation));
+        legacyAccess.put(Role.WAREHOUSE_OPERATOR, Map.of(
+                WarehouseSystemOperation.RECEIVE, operation,
+                WarehouseSystemOperation.RELEASE, operation));
+        return legacyAccess;
+    }
+}
@@ -0,0 +1,178 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.ProductSize;
+import Warehouse.WarehouseManager.product.Product;
+import Warehouse.WarehouseManager.product.ProductCache;
+import Warehouse.WarehouseManager.product.ProductCacheStats;
+import Warehouse.WarehouseManager.product.ProductDto;
+import Warehouse.WarehouseManager.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductCacheTest {
+
+    private static final int LOOKUPS_PER_TASK = 3;
+    private static final int TASKS = 1000;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private MutableClock clock;
+    private ProductCache productCache;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        productCache = new ProductCache(productRepository, 2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    public void shouldNotCacheProductLoadedWhileItWasInvalidated() {
+        //given
+        when(productRepository.findById(1L)).thenAnswer(invocation -> {
+            productCache.invalidate(1L, "Product1");
+            return Optional.of(createProduct(1L, "Product1"));
+        }).thenReturn(Optional.of(createProduct(1L, "Product1-renamed")));
+        //when
+        Optional<ProductDto> staleProduct = productCache.findById(1L);
+        Optional<ProductDto> freshProduct = productCache.findById(1L);
+        //then
+        assertEquals("Product1", staleProduct.orElseThrow().name());
+        assertEquals("Product1-renamed", freshProduct.orElseThrow().name());
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    public void shouldQueryRepositoryOncePerProductForRepeatedTaskValidation() {
+        //given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProduct(1L, "Product1")));
+        //when
+        for (int task = 0; task < TASKS; task++) {
+            for (int lookup = 0; lookup < LOOKUPS_PER_TASK; lookup++) {
+                productCache.findById(1L);
+            }
+        }
+        //then
+        verify(productRepository, times(1)).findById(1L);
+        ProductCacheStats stats = productCache.getStats();
+        assertEquals(TASKS * LOOKUPS_PER_TASK - 1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    public void shouldServeNameLookupFromProductLoadedById() {
+        //given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProduct(1L, "Product1")));
+        productCache.findById(1L);
+        //when
+        Optional<ProductDto> product = productCache.findByName("Product1");
+        //then
+        assertEquals(1L, product.orElseThrow().id());
+        verify(productRepository, never()).findByName("Product1");
+    }
+
+    @Test
+    public void shouldReloadProductAfterTimeToLive() {
+        //given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProduct(1L, "Product1")));
+        productCache.findById(1L);
+        //when
+        clock.advance(Duration.ofMinutes(5));
+        productCache.findById(1L);
+        //then
+        verify(productRepository, times(2)).findById(1L);
+        assertEquals(1, productCache.getStats().evictions());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedProductWhenFull() {
+        //given
+        when(productRepository.findById(anyLong())).thenAnswer(invocation -> {
+            long productId = invocation.getArgument(0);
+            return Optional.of(createProduct(productId, "Product" + productId));
+        });
+        productCache.findById(1L);
+        productCache.findById(2L);
+        productCache.findById(1L);
+        //when
+        productCache.findById(3L);
+        productCache.findById(1L);
+        productCache.findById(2L);
+        //then
+        verify(productRepository, times(1)).findById(1L);
+        verify(productRepository, times(2)).findById(2L);
+        assertEquals(2, productCache.getStats().size());
+    }
+
+    @Test
+    public void shouldReloadProductAfterInvalidation() {
+        //given
+        when(productRepository.findByName("Product1")).thenReturn(Optional.of(createProduct(1L, "Product1")));
+        productCache.findByName("Product1");
+        //when
+        productCache.invalidate(1L, "Product1");
+        productCache.findByName("Product1");
+        //then
+        verify(productRepository, times(2)).findByName("Product1");
+    }
+
+    @Test
+    public void shouldLoadOnlyMissingProductsInBulk() {
+        //given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProduct(1L, "Product1")));
+        when(productRepository.findAllById(List.of(2L))).thenReturn(List.of(createProduct(2L, "Product2")));
+        productCache.findById(1L);
+        //when
+        Map<Long, ProductDto> products = productCache.findAllById(List.of(1L, 2L));
+        //then
+        assertEquals(2, products.size());
+        verify(productRepository).findAllById(List.of(2L));
+    }
+
+    private Product createProduct(long id, String name) {
+        return new Product(id, name, ProductSize.MEDIUM);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.consumer.ProductConsumer;
+import Warehouse.WarehouseManager.enums.BufferOverflowPolicy;
+import Warehouse.WarehouseManager.enums.ProductSize;
+import Warehouse.WarehouseManager.product.ProductDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class ProductConsumerTest {
+
+    @Test
+    public void shouldBufferWholeBatchAndSkipTombstones() {
+        //given
+        ProductConsumer productConsumer = new ProductConsumer(mock(KafkaListenerEndpointRegistry.class), 16, BufferOverflowPolicy.DROP_NEWEST);
+        ProductDto firstProduct = new ProductDto(1L, "Product1", ProductSize.SMALL);
+        ProductDto secondProduct = new ProductDto(2L, "Product2", ProductSize.MEDIUM);
+        //when
+        productConsumer.consume(Arrays.asList(firstProduct, null, secondProduct));
+        productConsumer.consume(List.of());
+        //then
+        assertEquals(List.of(firstProduct, secondProduct), productConsumer.retrieveAllProductAddedAtDay());
+        assertEquals(2, productConsumer.getBufferStats().drained());
+        assertTrue(productConsumer.retrieveAllProductAddedAtDay().isEmpty());
+    }
+
+    @Test
+    public void shouldReportFailedIndexWhenBufferRejectsPartOfBatch() {
+        //given
+        ProductConsumer productConsumer = new ProductConsumer(mock(KafkaListenerEndpointRegistry.class), 2, BufferOverflowPolicy.REJECT);
+        List<ProductDto> batch = List.of(new ProductDto(1L, "Product1", ProductSize.SMALL),
+                new ProductDto(2L, "Product2", ProductSize.SMALL), new ProductDto(3L, "Product3", ProductSize.SMALL));
+        //when
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () -> productConsumer.consume(batch));
+        //then
+        assertEquals(2, exception.getIndex());
+        assertEquals(batch.subList(0, 2), productConsumer.retrieveAllProductAddedAtDay());
+    }
+}
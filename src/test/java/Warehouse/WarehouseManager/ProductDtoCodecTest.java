@@ -0,0 +1,82 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.codec.BinaryEventWriter;
+import Warehouse.WarehouseManager.codec.ProductDtoCodec;
+import Warehouse.WarehouseManager.consumer.ProductDeserializer;
+import Warehouse.WarehouseManager.enums.ProductSize;
+import Warehouse.WarehouseManager.enums.WireFormat;
+import Warehouse.WarehouseManager.product.ProductDto;
+import Warehouse.WarehouseManager.producer.ProductSerializer;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductDtoCodecTest {
+
+    @Test
+    public void shouldRoundTripProductThroughBinaryCodec() {
+        //given
+        BinaryEventWriter writer = new BinaryEventWriter(4);
+        ProductDto productDto = new ProductDto(300L, "Krzesło biurowe 📦", ProductSize.PALLET);
+        //when
+        ProductDtoCodec.encode(productDto, writer);
+        byte[] encoded = writer.toByteArray();
+        //then
+        assertEquals(productDto, ProductDtoCodec.decode(encoded));
+        assertEquals(ProductDtoCodec.SCHEMA_VERSION, encoded[0]);
+        assertEquals(2 + 2 + 1 + productDto.name().getBytes(StandardCharsets.UTF_8).length + 1, encoded.length);
+    }
+
+    @Test
+    public void shouldRoundTripMissingFields() {
+        //given
+        BinaryEventWriter writer = new BinaryEventWriter(16);
+        ProductDto productDto = new ProductDto(null, null, null);
+        //when
+        ProductDtoCodec.encode(productDto, writer);
+        //then
+        assertEquals(productDto, ProductDtoCodec.decode(writer.toByteArray()));
+    }
+
+    @Test
+    public void shouldRejectUnknownSchemaVersionAndTruncatedMessages() {
+        //given
+        BinaryEventWriter writer = new BinaryEventWriter(16);
+        ProductDtoCodec.encode(new ProductDto(1L, "Product1", ProductSize.SMALL), writer);
+        byte[] encoded = writer.toByteArray();
+        byte[] truncated = new byte[encoded.length - 3];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        encoded[0] = 99;
+        //when then
+        assertThrows(SerializationException.class, () -> ProductDtoCodec.decode(encoded));
+        assertThrows(SerializationException.class, () -> ProductDtoCodec.decode(truncated));
+    }
+
+    @Test
+    public void shouldNegotiateFormatFromRecordHeader() {
+        //given
+        ProductSerializer binarySerializer = new ProductSerializer();
+        binarySerializer.configure(Map.of(ProductSerializer.WIRE_FORMAT_CONFIG, "BINARY"), false);
+        ProductSerializer jsonSerializer = new ProductSerializer();
+        jsonSerializer.configure(Map.of(ProductSerializer.WIRE_FORMAT_CONFIG, "JSON"), false);
+        ProductDeserializer productDeserializer = new ProductDeserializer();
+        ProductDto productDto = new ProductDto(42L, "Product42", ProductSize.MEDIUM);
+        Headers binaryHeaders = new RecordHeaders();
+        Headers jsonHeaders = new RecordHeaders();
+        //when
+        byte[] binary = binarySerializer.serialize("new-topic", binaryHeaders, productDto);
+        byte[] json = jsonSerializer.serialize("new-topic", jsonHeaders, productDto);
+        //then
+        assertEquals("BINARY", new String(binaryHeaders.lastHeader(WireFormat.HEADER).value(), StandardCharsets.US_ASCII));
+        assertEquals(productDto, productDeserializer.deserialize("new-topic", binaryHeaders, binary));
+        assertEquals(productDto, productDeserializer.deserialize("new-topic", jsonHeaders, json));
+        assertEquals(productDto, productDeserializer.deserialize("new-topic", new RecordHeaders(), json));
+        assertTrue(binary.length * 2 < json.length);
+    }
+}
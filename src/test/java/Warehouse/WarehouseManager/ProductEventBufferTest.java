@@ -0,0 +1,120 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.consumer.ProductEventBuffer;
+import Warehouse.WarehouseManager.consumer.ProductEventBufferStats;
+import Warehouse.WarehouseManager.enums.BufferOverflowPolicy;
+import Warehouse.WarehouseManager.enums.ProductSize;
+import Warehouse.WarehouseManager.exception.ProductBufferFullException;
+import Warehouse.WarehouseManager.product.ProductDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductEventBufferTest {
+
+    @Test
+    public void shouldRoundCapacityUpToPowerOfTwo() {
+        //when then
+        assertEquals(1, new ProductEventBuffer(1, BufferOverflowPolicy.DROP_NEWEST).getCapacity());
+        assertEquals(8, new ProductEventBuffer(8, BufferOverflowPolicy.DROP_NEWEST).getCapacity());
+        assertEquals(16, new ProductEventBuffer(9, BufferOverflowPolicy.DROP_NEWEST).getCapacity());
+    }
+
+    @Test
+    public void shouldReturnEachProductExactlyOnceAcrossDrains() {
+        //given
+        ProductEventBuffer productEventBuffer = new ProductEventBuffer(4, BufferOverflowPolicy.DROP_NEWEST);
+        productEventBuffer.offer(createProductDto(1));
+        productEventBuffer.offer(createProductDto(2));
+        //when
+        List<ProductDto> firstDrain = productEventBuffer.drain();
+        productEventBuffer.offer(createProductDto(3));
+        List<ProductDto> secondDrain = productEventBuffer.drain();
+        List<ProductDto> thirdDrain = productEventBuffer.drain();
+        //then
+        assertEquals(List.of(createProductDto(1), createProductDto(2)), firstDrain);
+        assertEquals(List.of(createProductDto(3)), secondDrain);
+        assertTrue(thirdDrain.isEmpty());
+        assertEquals(0, productEventBuffer.size());
+    }
+
+    @Test
+    public void shouldDropNewestProductsWhenFull() {
+        //given
+        ProductEventBuffer productEventBuffer = new ProductEventBuffer(4, BufferOverflowPolicy.DROP_NEWEST);
+        //when
+        for (int i = 0; i < 10; i++) {
+            productEventBuffer.offer(createProductDto(i));
+        }
+        //then
+        ProductEventBufferStats stats = productEventBuffer.getStats();
+        assertEquals(4, stats.size());
+        assertEquals(4, stats.accepted());
+        assertEquals(6, stats.dropped());
+        assertEquals(List.of(createProductDto(0), createProductDto(1), createProductDto(2), createProductDto(3)),
+                productEventBuffer.drain());
+        assertTrue(productEventBuffer.offer(createProductDto(10)));
+    }
+
+    @Test
+    public void shouldRejectProductsWhenFullAndPolicyIsReject() {
+        //given
+        ProductEventBuffer productEventBuffer = new ProductEventBuffer(2, BufferOverflowPolicy.REJECT);
+        productEventBuffer.offer(createProductDto(1));
+        productEventBuffer.offer(createProductDto(2));
+        //when then
+        assertThrows(ProductBufferFullException.class, () -> productEventBuffer.offer(createProductDto(3)));
+        assertEquals(1, productEventBuffer.getStats().rejected());
+    }
+
+    @Test
+    public void shouldNotLoseOrDuplicateProductsWhileDrainingConcurrently() throws Exception {
+        //given
+        int producers = 4;
+        int productsPerProducer = 50000;
+        ProductEventBuffer productEventBuffer = new ProductEventBuffer(1024, BufferOverflowPolicy.DROP_NEWEST);
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        Set<Long> drainedIds = new HashSet<>();
+        long drainedProducts = 0;
+        //when
+        for (int producer = 0; producer < producers; producer++) {
+            long firstId = (long) producer * productsPerProducer;
+            futures.add(executorService.submit(() -> {
+                startSignal.await();
+                for (long id = firstId; id < firstId + productsPerProducer; id++) {
+                    while (!productEventBuffer.offer(createProductDto(id))) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        while (drainedProducts < (long) producers * productsPerProducer) {
+            List<ProductDto> productDtoList = productEventBuffer.drain();
+            productDtoList.forEach(productDto -> drainedIds.add(productDto.id()));
+            drainedProducts += productDtoList.size();
+            assertTrue(productEventBuffer.size() <= productEventBuffer.getCapacity());
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executorService.shutdown();
+        //then
+        assertEquals((long) producers * productsPerProducer, drainedIds.size());
+        assertEquals(drainedIds.size(), drainedProducts);
+        assertTrue(productEventBuffer.drain().isEmpty());
+    }
+
+    private ProductDto createProductDto(long id) {
+        return new ProductDto(id, "product-" + id, ProductSize.SMALL);
+    }
+}
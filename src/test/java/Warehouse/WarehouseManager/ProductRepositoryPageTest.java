@@ -0,0 +1,129 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.employee.EmployeeService;
+import Warehouse.WarehouseManager.enums.ProductSearchMode;
+import Warehouse.WarehouseManager.enums.ProductSize;
+import Warehouse.WarehouseManager.product.Product;
+import Warehouse.WarehouseManager.product.ProductCache;
+import Warehouse.WarehouseManager.product.ProductDto;
+import Warehouse.WarehouseManager.product.ProductPage;
+import Warehouse.WarehouseManager.product.ProductRepository;
+import Warehouse.WarehouseManager.product.ProductSearchHit;
+import Warehouse.WarehouseManager.product.ProductService;
+import Warehouse.WarehouseManager.security.SecurityService;
+import Warehouse.WarehouseManager.stock.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ProductRepositoryPageTest {
+
+    private static final int PRODUCTS = 10;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private ProductService productService;
+
+    private String prefix;
+    private List<Product> products;
+
+    @BeforeEach
+    public void setUp() {
+        prefix = "page_" + System.nanoTime() + "-";
+        products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.setName(prefix + i);
+            product.setSize(i % 2 == 0 ? ProductSize.SMALL : ProductSize.BIG);
+            products.add(product);
+        }
+        products = productRepository.saveAll(products);
+        productService = new ProductService(productRepository, mock(ProductCache.class), mock(StockRepository.class),
+                mock(SecurityService.class), mock(EmployeeService.class), mock(KafkaTemplate.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        productRepository.deleteAll(products);
+    }
+
+    @Test
+    public void shouldWalkProductsByNamePrefixWithKeysetPagination() {
+        //given
+        List<ProductDto> visitedProducts = new ArrayList<>();
+        Long afterId = null;
+        ProductPage page;
+        //when
+        do {
+            page = productService.getProductPage(1L, afterId, 3, null, prefix);
+            visitedProducts.addAll(page.products());
+            afterId = page.nextAfterId();
+        } while (afterId != null);
+        //then
+        assertEquals(PRODUCTS, visitedProducts.size());
+        for (int i = 1; i < visitedProducts.size(); i++) {
+            assertTrue(visitedProducts.get(i - 1).id() < visitedProducts.get(i).id());
+        }
+    }
+
+    @Test
+    public void shouldFilterProductPageBySize() {
+        //when
+        ProductPage page = productService.getProductPage(1L, null, 50, ProductSize.BIG, prefix);
+        //then
+        assertEquals(PRODUCTS / 2, page.products().size());
+        assertTrue(page.products().stream().allMatch(product -> product.size().equals(ProductSize.BIG)));
+        assertFalse(productService.getProductPage(1L, null, 1, null, null).products().isEmpty());
+    }
+
+    @Test
+    public void shouldTreatUnderscoreInPrefixLiterally() {
+        //given
+        Product decoy = new Product();
+        decoy.setName(prefix.replace("page_", "pagex") + "decoy");
+        decoy.setSize(ProductSize.SMALL);
+        products.add(productRepository.save(decoy));
+        //when
+        ProductPage page = productService.getProductPage(1L, null, 50, null, prefix);
+        //then
+        assertEquals(PRODUCTS, page.products().size());
+        assertTrue(page.products().stream().allMatch(product -> product.name().startsWith(prefix)));
+    }
+
+    @Test
+    public void shouldSearchProductsByNamePrefixInNameOrder() {
+        //when
+        List<ProductDto> products = productService.searchProducts(1L, prefix, ProductSearchMode.PREFIX, ProductSize.SMALL, 3);
+        //then
+        assertEquals(List.of(prefix + "0", prefix + "2", prefix + "4"), products.stream().map(ProductDto::name).toList());
+    }
+
+    @Test
+    public void shouldFindProductsBySimilarityDespiteTypo() {
+        //given
+        String misspelledName = prefix.replace("page", "paeg") + "3";
+        //when
+        List<ProductSearchHit> hits = productRepository.searchBySimilarity(misspelledName, 5);
+        List<ProductSearchHit> bigHits = productRepository.searchBySimilarityAndSize(misspelledName, "BIG", 5);
+        //then
+        assertEquals(prefix + "3", hits.get(0).getName());
+        assertTrue(bigHits.stream().allMatch(hit -> hit.getSize().equals("BIG")));
+        assertFalse(bigHits.isEmpty());
+    }
+}
@@ -5,31 +5,41 @@ import Warehouse.WarehouseManager.employee.Employee;
 import Warehouse.WarehouseManager.employee.EmployeeDto;
 import Warehouse.WarehouseManager.employee.EmployeeRepository;
 import Warehouse.WarehouseManager.employee.EmployeeService;
+import Warehouse.WarehouseManager.enums.ProductSearchMode;
 import Warehouse.WarehouseManager.enums.ProductSize;
 import Warehouse.WarehouseManager.enums.Resource;
 import Warehouse.WarehouseManager.enums.Role;
 import Warehouse.WarehouseManager.enums.WarehouseSystemOperation;
 import Warehouse.WarehouseManager.exception.*;
 import Warehouse.WarehouseManager.product.Product;
+import Warehouse.WarehouseManager.product.ProductCache;
 import Warehouse.WarehouseManager.product.ProductDto;
+import Warehouse.WarehouseManager.product.ProductPage;
 import Warehouse.WarehouseManager.product.ProductRepository;
+import Warehouse.WarehouseManager.product.ProductSearchHit;
 import Warehouse.WarehouseManager.product.ProductService;
 import Warehouse.WarehouseManager.security.SecurityService;
 import Warehouse.WarehouseManager.stock.Stock;
+import Warehouse.WarehouseManager.stock.StockAvailability;
 import Warehouse.WarehouseManager.stock.StockRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,9 +59,15 @@ public class ProductServiceTest {
     @Mock
     private KafkaTemplate<Long,ProductDto> kafkaTemplate;
 
-    @InjectMocks
     private ProductService productService;
 
+    @BeforeEach
+    public void setUp(){
+        productService = new ProductService(productRepository,
+                new ProductCache(productRepository, 100, Duration.ofMinutes(5), Clock.systemUTC()),
+                stockRepository, securityService, employeeService, kafkaTemplate);
+    }
+
     @Test
     public void shouldReturnProductDtoList(){
         //given
@@ -79,6 +95,50 @@ public class ProductServiceTest {
         assertThrows(EmployeeNotExistsException.class,() -> productService.getDtoProductList(3L));
     }
 
+    @Test
+    public void shouldReturnProductPageWithNextAfterId(){
+        //given
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployeeBusinessOwner().getRole());
+        when(productRepository.findProductDtos(any(Specification.class), eq(Sort.by("id")), eq(2)))
+                .thenReturn(List.of(new ProductDto(1L,"Pro_d1",ProductSize.MEDIUM),new ProductDto(4L,"Pro_d2",ProductSize.MEDIUM)));
+        //when
+        ProductPage productPage = productService.getProductPage(1L,null,2,ProductSize.MEDIUM,"Pro_d");
+        //then
+        assertEquals(2,productPage.products().size());
+        assertEquals(4L,productPage.nextAfterId());
+    }
+
+    @Test
+    public void shouldThrowIllegalDataExceptionWhenProductPageSizeIsTooBig(){
+        //given
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployeeBusinessOwner().getRole());
+        //when then
+        assertThrows(IllegalDataException.class,() -> productService.getProductPage(1L,null,501,null,null));
+    }
+
+    @Test
+    public void shouldSearchProductsBySimilarity(){
+        //given
+        ProductSearchHit hit = mock(ProductSearchHit.class);
+        when(hit.getId()).thenReturn(1L);
+        when(hit.getName()).thenReturn("Product1");
+        when(hit.getSize()).thenReturn("MEDIUM");
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployeeBusinessOwner().getRole());
+        when(productRepository.searchBySimilarity("Prodcut1", 20)).thenReturn(List.of(hit));
+        //when
+        List<ProductDto> products = productService.searchProducts(1L,"Prodcut1",ProductSearchMode.FUZZY,null,20);
+        //then
+        assertEquals(List.of(new ProductDto(1L,"Product1",ProductSize.MEDIUM)),products);
+    }
+
+    @Test
+    public void shouldThrowIllegalDataExceptionWhenSearchQueryIsBlank(){
+        //given
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployeeBusinessOwner().getRole());
+        //when then
+        assertThrows(IllegalDataException.class,() -> productService.searchProducts(1L," ",ProductSearchMode.PREFIX,null,20));
+    }
+
     @Test
     public void shouldReturnProductDtoWhenProductExistsAndEmployeeHasAccess(){
         //given
@@ -233,11 +293,11 @@ public class ProductServiceTest {
         Product product = createMediumProductForTest();
         when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployeeBusinessOwner().getRole());
         when(productRepository.findByName(productName)).thenReturn(Optional.of(product));
-        when(stockRepository.findStockByProductName(productName)).thenReturn(Optional.of(stock));
+        when(stockRepository.findStocksByProductName(productName)).thenReturn(List.of(stock));
         //when
         productService.deleteProduct(productName,1L);
         //then
-        verify(stockRepository, times(1)).delete(stock);
+        verify(stockRepository, times(1)).deleteAll(List.of(stock));
         verify(productRepository, times(1)).delete(product);
     }
 
@@ -256,7 +316,7 @@ public class ProductServiceTest {
         String productName = "Product1";
         when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployeeBusinessOwner().getRole());
         when(productRepository.findByName(productName)).thenReturn(Optional.of(createMediumProductForTest()));
-        when(stockRepository.findStockByProductName(productName)).thenReturn(Optional.of(createStockForTestWithFiveQuantity()));
+        when(stockRepository.findStocksByProductName(productName)).thenReturn(List.of(createStockForTestWithZeroQuantity(), createStockForTestWithFiveQuantity()));
         //when
         assertThrows(ProductQuantityException.class, () -> productService.deleteProduct(productName,1L));
     }
@@ -267,11 +327,26 @@ public class ProductServiceTest {
         String productName = "Product1";
         when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployeeBusinessOwner().getRole());
         when(productRepository.findByName(productName)).thenReturn(Optional.of(createMediumProductForTest()));
-        when(stockRepository.findStockByProductName(productName)).thenReturn(Optional.empty());
+        when(stockRepository.findStocksByProductName(productName)).thenReturn(List.of());
         //when
         assertThrows(StockNotExistsException.class, () -> productService.deleteProduct(productName,1L));
     }
 
+    @Test
+    public void shouldReturnProductAvailabilityPerWarehouse(){
+        //given
+        String productName = "Product1";
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployeeBusinessOwner().getRole());
+        when(productRepository.findByName(productName)).thenReturn(Optional.of(createMediumProductForTest()));
+        when(stockRepository.findAvailabilityByProductId(1L))
+                .thenReturn(List.of(new StockAvailability(1L,5L),new StockAvailability(2L,0L)));
+        //when
+        List<StockAvailability> availability = productService.getProductAvailability(productName,1L);
+        //then
+        assertEquals(2,availability.size());
+        assertEquals(5L,availability.get(0).quantity());
+    }
+
     @Test
     public void shouldThrowAccessDeniedExceptionByDeleteProductWhenEmployeeHasNoAccess(){
         //given
@@ -0,0 +1,142 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.RateLimitedEndpoint;
+import Warehouse.WarehouseManager.exception.TooManyRequestsException;
+import Warehouse.WarehouseManager.security.RateLimitService;
+import Warehouse.WarehouseManager.security.RateLimitStats;
+import Warehouse.WarehouseManager.security.TokenBucketRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitServiceTest {
+
+    private MutableClock clock;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void shouldAllowBurstUpToCapacityAndThenRefill() {
+        //given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(3, 6, 1000, clock);
+        //when then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("key").isZero());
+        }
+        assertEquals(Duration.ofSeconds(10), rateLimiter.tryAcquire("key"));
+        assertTrue(rateLimiter.tryAcquire("other-key").isZero());
+        clock.advance(Duration.ofSeconds(10));
+        assertTrue(rateLimiter.tryAcquire("key").isZero());
+        assertFalse(rateLimiter.tryAcquire("key").isZero());
+    }
+
+    @Test
+    public void shouldNotGrantMoreThanCapacityToConcurrentCallers() throws Exception {
+        //given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(100, 1, 1000, clock);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger grantedTokens = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < 1000; i++) {
+            futures.add(executorService.submit(() -> {
+                startSignal.await();
+                if (rateLimiter.tryAcquire("key").isZero()) {
+                    grantedTokens.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executorService.shutdown();
+        //then
+        assertEquals(100, grantedTokens.get());
+    }
+
+    @Test
+    public void shouldBoundTrackedKeysByEvictingLeastRecentlyUsed() {
+        //given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 160, clock);
+        rateLimiter.tryAcquire("active");
+        //when
+        for (int i = 0; i < 10000; i++) {
+            rateLimiter.tryAcquire("scanner-" + i);
+        }
+        //then
+        assertTrue(rateLimiter.trackedKeys() <= 160);
+    }
+
+    @Test
+    public void shouldRejectByIpAndByUsernameWithRetryAfter() {
+        //given
+        RateLimitService rateLimitService = createRateLimitService();
+        rateLimitService.checkLimit(RateLimitedEndpoint.LOGIN, "10.0.0.1", "szymon");
+        rateLimitService.checkLimit(RateLimitedEndpoint.LOGIN, "10.0.0.1", "szymon");
+        //when
+        TooManyRequestsException ipException = assertThrows(TooManyRequestsException.class,
+                () -> rateLimitService.checkLimit(RateLimitedEndpoint.LOGIN, "10.0.0.1", "adam"));
+        TooManyRequestsException usernameException = assertThrows(TooManyRequestsException.class,
+                () -> rateLimitService.checkLimit(RateLimitedEndpoint.LOGIN, "10.0.0.2", "szymon"));
+        //then
+        assertEquals(30, ipException.getRetryAfterSeconds());
+        assertEquals("30", usernameException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(429, usernameException.getStatusCode().value());
+        assertDoesNotThrow(() -> rateLimitService.checkLimit(RateLimitedEndpoint.REGISTRATION, "10.0.0.1", "szymon"));
+        RateLimitStats loginStats = rateLimitService.getRateLimitStats().stream()
+                .filter(stats -> stats.endpoint() == RateLimitedEndpoint.LOGIN)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, loginStats.ipRejections());
+        assertEquals(1, loginStats.usernameRejections());
+    }
+
+    private RateLimitService createRateLimitService() {
+        return new RateLimitService(Map.of(
+                RateLimitedEndpoint.LOGIN, new TokenBucketRateLimiter(2, 2, 1000, clock),
+                RateLimitedEndpoint.REFRESH_TOKEN, new TokenBucketRateLimiter(2, 2, 1000, clock),
+                RateLimitedEndpoint.REGISTRATION, new TokenBucketRateLimiter(2, 2, 1000, clock)));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
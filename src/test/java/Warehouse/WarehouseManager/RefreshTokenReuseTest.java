@@ -0,0 +1,128 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.email.EmailService;
+import Warehouse.WarehouseManager.employee.Employee;
+import Warehouse.WarehouseManager.employee.EmployeeRepository;
+import Warehouse.WarehouseManager.employee.EmployeeService;
+import Warehouse.WarehouseManager.enums.JwtSigningAlgorithm;
+import Warehouse.WarehouseManager.enums.Role;
+import Warehouse.WarehouseManager.exception.IncorrectTokenDataException;
+import Warehouse.WarehouseManager.exception.TokenExpiredException;
+import Warehouse.WarehouseManager.exception.WrongCredentialsException;
+import Warehouse.WarehouseManager.security.*;
+import com.auth0.jwt.JWT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class RefreshTokenReuseTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+    @Autowired
+    private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SecurityService securityService;
+    private EmployeeService employeeService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        revokedTokenRepository.deleteAll();
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        RSAKeyUtil rsaKeyUtil = new RSAKeyUtil(
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+                Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        List<JwtSigningKey> jwtSigningKeys = new ArrayList<>();
+        JwtSigningKeyRepository jwtSigningKeyRepository = mock(JwtSigningKeyRepository.class);
+        when(jwtSigningKeyRepository.save(any(JwtSigningKey.class))).thenAnswer(invocation -> {
+            jwtSigningKeys.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(jwtSigningKeyRepository.findVerificationKeys(any(Instant.class))).thenAnswer(invocation -> List.copyOf(jwtSigningKeys));
+        JWTUtil jwtUtil = new JWTUtil(new SigningKeyService(jwtSigningKeyRepository, rsaKeyUtil, JwtSigningAlgorithm.ES256,
+                Duration.ofDays(7), Duration.ofDays(15), Clock.systemUTC()), new VerifiedTokenCache(100));
+        RolePermissionRepository rolePermissionRepository = mock(RolePermissionRepository.class);
+        when(rolePermissionRepository.findPermissionMatrixVersion()).thenReturn(1L);
+        securityService = new SecurityService(jwtUtil, new BCryptPasswordEncoder(), new PermissionMatrixService(rolePermissionRepository),
+                new PasswordHashExecutor(1, 4, 5000), new TokenRevocationList(revokedTokenRepository, 1000), refreshTokenFamilyRepository);
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findById(2L)).thenReturn(Optional.of(createEmployee()));
+        employeeService = new EmployeeService(employeeRepository, securityService, mock(EmailService.class));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        revokedTokenRepository.deleteAll();
+        refreshTokenFamilyRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldRevokeWholeFamilyWhenRefreshTokenIsReused() {
+        //given
+        LoginResponseDto loginTokens = securityService.issueTokens(createEmployee().toEmployeeDto());
+        String familyId = JWT.decode(loginTokens.refreshToken()).getClaim(JWTUtil.FAMILY_CLAIM).asString();
+        LoginResponseDto attackerTokens = refresh(loginTokens.refreshToken());
+        //when
+        assertThrows(WrongCredentialsException.class, () -> refresh(loginTokens.refreshToken()));
+        //then
+        assertThrows(TokenExpiredException.class, () -> refresh(attackerTokens.refreshToken()));
+        assertThrows(IncorrectTokenDataException.class, () -> securityService.authenticate("Bearer " + attackerTokens.accessToken()));
+        assertTrue(revokedTokenRepository.existsById(familyId));
+        assertTrue(new TokenRevocationList(revokedTokenRepository, 1000).isRevoked(familyId));
+    }
+
+    @Test
+    public void shouldRotateRefreshTokenWithinFamily() {
+        //given
+        LoginResponseDto loginTokens = securityService.issueTokens(createEmployee().toEmployeeDto());
+        //when
+        LoginResponseDto refreshedTokens = refresh(loginTokens.refreshToken());
+        LoginResponseDto secondRefreshedTokens = refresh(refreshedTokens.refreshToken());
+        //then
+        assertEquals(JWT.decode(loginTokens.refreshToken()).getClaim(JWTUtil.FAMILY_CLAIM).asString(),
+                JWT.decode(secondRefreshedTokens.refreshToken()).getClaim(JWTUtil.FAMILY_CLAIM).asString());
+        assertEquals(2L, securityService.authenticate("Bearer " + secondRefreshedTokens.accessToken()).id());
+        assertEquals(0, revokedTokenRepository.count());
+    }
+
+    private LoginResponseDto refresh(String refreshToken) {
+        return transactionTemplate.execute(status -> employeeService.refreshAccessToken("Bearer " + refreshToken));
+    }
+
+    private Employee createEmployee() {
+        return new Employee(2L, "szymon", "hashed_password", "szymon@o2.pl", true, Role.ADMIN,
+                null, null, null, null);
+    }
+}
@@ -0,0 +1,164 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.employee.EmployeeDto;
+import Warehouse.WarehouseManager.enums.JwtSigningAlgorithm;
+import Warehouse.WarehouseManager.enums.Role;
+import Warehouse.WarehouseManager.exception.IncorrectTokenDataException;
+import Warehouse.WarehouseManager.exception.TokenExpiredException;
+import Warehouse.WarehouseManager.security.*;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SecurityServiceTest {
+
+    private JWTUtil jwtUtil;
+    private SecurityService securityService;
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationList tokenRevocationList;
+    private RolePermissionRepository rolePermissionRepository;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        RSAKeyUtil rsaKeyUtil = new RSAKeyUtil(
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+                Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        List<JwtSigningKey> jwtSigningKeys = new ArrayList<>();
+        JwtSigningKeyRepository jwtSigningKeyRepository = mock(JwtSigningKeyRepository.class);
+        when(jwtSigningKeyRepository.save(any(JwtSigningKey.class))).thenAnswer(invocation -> {
+            jwtSigningKeys.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(jwtSigningKeyRepository.findVerificationKeys(any(Instant.class))).thenAnswer(invocation -> List.copyOf(jwtSigningKeys));
+        jwtUtil = new JWTUtil(new SigningKeyService(jwtSigningKeyRepository, rsaKeyUtil, JwtSigningAlgorithm.ES256,
+                Duration.ofDays(7), Duration.ofDays(15), Clock.systemUTC()), new VerifiedTokenCache(100));
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 1000);
+        rolePermissionRepository = mock(RolePermissionRepository.class);
+        when(rolePermissionRepository.findPermissionMatrixVersion()).thenReturn(2L);
+        securityService = new SecurityService(jwtUtil, new BCryptPasswordEncoder(), new PermissionMatrixService(rolePermissionRepository),
+                new PasswordHashExecutor(1, 4, 5000), tokenRevocationList, mock(RefreshTokenFamilyRepository.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void shouldAuthenticateEmployeeFromAccessTokenClaims() {
+        //given
+        String accessToken = securityService.issueTokens(createEmployeeDto()).accessToken();
+        //when
+        AuthenticatedEmployee authenticatedEmployee = securityService.authenticate("Bearer " + accessToken);
+        //then
+        assertEquals(7L, authenticatedEmployee.id());
+        assertEquals("szymon", authenticatedEmployee.username());
+        assertEquals(Role.BUSINESS_OWNER, authenticatedEmployee.role());
+        assertEquals(2L, authenticatedEmployee.permissionVersion());
+    }
+
+    @Test
+    public void shouldRejectAccessTokenWithOutdatedPermissionVersion() {
+        //given
+        String accessToken = jwtUtil.createAccessToken(createEmployeeDto(), 1L, "family");
+        //when then
+        assertThrows(IncorrectTokenDataException.class, () -> securityService.authenticate("Bearer " + accessToken));
+    }
+
+    @Test
+    public void shouldReloadPermissionMatrixForTokenWithNewerPermissionVersion() {
+        //given
+        String accessToken = jwtUtil.createAccessToken(createEmployeeDto(), 3L, "family");
+        when(rolePermissionRepository.findPermissionMatrixVersion()).thenReturn(3L);
+        //when
+        AuthenticatedEmployee authenticatedEmployee = securityService.authenticate("Bearer " + accessToken);
+        //then
+        assertEquals(3L, authenticatedEmployee.permissionVersion());
+        assertThrows(IncorrectTokenDataException.class, () -> securityService.authenticate(
+                "Bearer " + jwtUtil.createAccessToken(createEmployeeDto(), 2L, "family")));
+    }
+
+    @Test
+    public void shouldRejectTokenWithoutRoleClaim() {
+        //given
+        String refreshToken = securityService.issueTokens(createEmployeeDto()).refreshToken();
+        //when then
+        assertThrows(IncorrectTokenDataException.class, () -> securityService.authenticate("Bearer " + refreshToken));
+    }
+
+    @Test
+    public void shouldRejectTamperedToken() {
+        //given
+        String accessToken = securityService.issueTokens(createEmployeeDto()).accessToken();
+        //when then
+        assertThrows(IncorrectTokenDataException.class, () -> securityService.authenticate("Bearer " + accessToken + "x"));
+    }
+
+    @Test
+    public void shouldRejectAccessTokenOfRevokedFamily() {
+        //given
+        LoginResponseDto tokens = securityService.issueTokens(createEmployeeDto());
+        DecodedJWT refreshToken = securityService.verifyRefreshToken("Bearer " + tokens.refreshToken());
+        when(revokedTokenRepository.insertIfAbsent(eq(securityService.getFamilyId(refreshToken)), any(Instant.class), any(Instant.class))).thenReturn(1);
+        //when
+        securityService.revokeTokenFamily(securityService.getFamilyId(refreshToken));
+        //then
+        assertThrows(IncorrectTokenDataException.class, () -> securityService.authenticate("Bearer " + tokens.accessToken()));
+        assertThrows(TokenExpiredException.class, () -> securityService.verifyRefreshToken("Bearer " + tokens.refreshToken()));
+    }
+
+    @Test
+    public void shouldNotAcceptAccessTokenAsRefreshToken() {
+        //given
+        String accessToken = securityService.issueTokens(createEmployeeDto()).accessToken();
+        //when then
+        assertThrows(IncorrectTokenDataException.class, () -> securityService.verifyRefreshToken("Bearer " + accessToken));
+    }
+
+    @Test
+    public void shouldExposeAuthenticatedEmployeeStoredOnCurrentRequest() {
+        //given
+        AuthenticatedEmployee authenticatedEmployee = new AuthenticatedEmployee(7L, "szymon", Role.ADMIN, 2L);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(SecurityService.AUTHENTICATED_EMPLOYEE_ATTRIBUTE, authenticatedEmployee);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        //when then
+        assertEquals(authenticatedEmployee, securityService.getAuthenticatedEmployee().orElseThrow());
+        assertEquals(authenticatedEmployee, securityService.getAuthenticatedEmployee("Bearer not-verified-again"));
+    }
+
+    @Test
+    public void shouldNotExposeAuthenticatedEmployeeOutsideRequest() {
+        //when then
+        assertTrue(securityService.getAuthenticatedEmployee().isEmpty());
+    }
+
+    private EmployeeDto createEmployeeDto() {
+        return new EmployeeDto(7L, "szymon", "hashed_password", "szymon@o2.pl", true, Role.BUSINESS_OWNER,
+                null, null, null, null);
+    }
+}
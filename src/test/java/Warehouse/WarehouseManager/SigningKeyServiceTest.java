@@ -0,0 +1,224 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.employee.EmployeeDto;
+import Warehouse.WarehouseManager.enums.JwtSigningAlgorithm;
+import Warehouse.WarehouseManager.enums.Role;
+import Warehouse.WarehouseManager.security.*;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class SigningKeyServiceTest {
+
+    private static final Duration ROTATION_PERIOD = Duration.ofDays(7);
+    private static final Duration RETENTION = Duration.ofDays(15);
+
+    @Autowired
+    private JwtSigningKeyRepository jwtSigningKeyRepository;
+
+    private KeyPair configuredKeyPair;
+    private RSAKeyUtil rsaKeyUtil;
+    private MutableClock clock;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jwtSigningKeyRepository.deleteAll();
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        configuredKeyPair = keyPairGenerator.generateKeyPair();
+        rsaKeyUtil = new RSAKeyUtil(
+                Base64.getEncoder().encodeToString(configuredKeyPair.getPublic().getEncoded()),
+                Base64.getEncoder().encodeToString(configuredKeyPair.getPrivate().getEncoded()));
+        clock = new MutableClock(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    public void shouldSignWithEs256AndKidHeader() {
+        //given
+        SigningKeyService signingKeyService = createSigningKeyService();
+        JWTUtil jwtUtil = new JWTUtil(signingKeyService, new VerifiedTokenCache(0));
+        //when
+        String accessToken = jwtUtil.createAccessToken(createEmployeeDto(), 1L, "family");
+        //then
+        DecodedJWT decodedJWT = jwtUtil.verifyToken(accessToken);
+        assertEquals("ES256", decodedJWT.getAlgorithm());
+        assertEquals(signingKeyService.getActiveKey().getKid(), decodedJWT.getKeyId());
+        assertEquals("7", decodedJWT.getSubject());
+    }
+
+    @Test
+    public void shouldKeepVerifyingTokensOfRetiredKeyUntilRetentionEnds() {
+        //given
+        SigningKeyService signingKeyService = createSigningKeyService();
+        JWTUtil jwtUtil = new JWTUtil(signingKeyService, new VerifiedTokenCache(0));
+        String retiredKid = signingKeyService.getActiveKey().getKid();
+        String accessToken = jwtUtil.createAccessToken(createEmployeeDto(), 1L, "family");
+        //when
+        clock.advance(ROTATION_PERIOD.minusHours(1));
+        assertFalse(signingKeyService.rotateIfDue());
+        clock.advance(Duration.ofHours(1));
+        assertTrue(signingKeyService.rotateIfDue());
+        //then
+        assertNotEquals(retiredKid, signingKeyService.getActiveKey().getKid());
+        assertEquals(retiredKid, jwtUtil.verifyToken(accessToken).getKeyId());
+        clock.advance(RETENTION);
+        signingKeyService.rotateIfDue();
+        assertFalse(jwtSigningKeyRepository.existsById(retiredKid));
+        assertThrows(JWTVerificationException.class, () -> jwtUtil.verifyToken(accessToken));
+    }
+
+    @Test
+    public void shouldLoadKeyRotatedByAnotherInstanceOnDemand() {
+        //given
+        SigningKeyService firstInstance = createSigningKeyService();
+        SigningKeyService secondInstance = createSigningKeyService();
+        clock.advance(ROTATION_PERIOD);
+        firstInstance.rotateIfDue();
+        String accessToken = new JWTUtil(firstInstance, new VerifiedTokenCache(0)).createAccessToken(createEmployeeDto(), 1L, "family");
+        //when
+        DecodedJWT decodedJWT = new JWTUtil(secondInstance, new VerifiedTokenCache(0)).verifyToken(accessToken);
+        //then
+        assertEquals(firstInstance.getActiveKey().getKid(), decodedJWT.getKeyId());
+    }
+
+    @Test
+    public void shouldKeepAnActiveKeyWhenRotationsOfTwoInstancesInterleave() {
+        //given
+        SigningKeyService firstInstance = createSigningKeyService();
+        clock.advance(ROTATION_PERIOD);
+        KeyPair otherKeyPair = JwtSigningAlgorithm.ES256.generateKeyPair();
+        //when
+        firstInstance.rotateIfDue();
+        jwtSigningKeyRepository.save(new JwtSigningKey("other-instance", JwtSigningAlgorithm.ES256,
+                Base64.getEncoder().encodeToString(otherKeyPair.getPublic().getEncoded()),
+                Base64.getEncoder().encodeToString(otherKeyPair.getPrivate().getEncoded()), clock.instant(), null));
+        jwtSigningKeyRepository.retireKeysCreatedBefore(clock.instant(), clock.instant());
+        firstInstance.reloadKeys();
+        //then
+        assertEquals(2, jwtSigningKeyRepository.findAll().stream().filter(key -> key.getRetiredAt() == null).count());
+        String accessToken = new JWTUtil(firstInstance, new VerifiedTokenCache(0)).createAccessToken(createEmployeeDto(), 1L, "family");
+        assertEquals(firstInstance.getActiveKey().getKid(), JWT.decode(accessToken).getKeyId());
+    }
+
+    @Test
+    public void shouldFailLoudlyWhenNoKeyIsActive() {
+        //given
+        SigningKeyService signingKeyService = new SigningKeyService(mock(JwtSigningKeyRepository.class), rsaKeyUtil,
+                JwtSigningAlgorithm.ES256, ROTATION_PERIOD, RETENTION, clock);
+        //when then
+        assertThrows(IllegalStateException.class, signingKeyService::getActiveKey);
+    }
+
+    @Test
+    public void shouldVerifyLegacyTokenWithoutKidUsingConfiguredRsaKey() {
+        //given
+        JWTUtil jwtUtil = new JWTUtil(createSigningKeyService(), new VerifiedTokenCache(0));
+        String legacyToken = JWT.create()
+                .withSubject("7")
+                .withExpiresAt(Date.from(Instant.now().plusSeconds(1800)))
+                .sign(Algorithm.RSA256((RSAPublicKey) configuredKeyPair.getPublic(), (RSAPrivateKey) configuredKeyPair.getPrivate()));
+        //when then
+        assertEquals("7", jwtUtil.verifyToken(legacyToken).getSubject());
+    }
+
+    @Test
+    public void shouldPublishConfiguredAndRotatedKeysAsJwks() {
+        //given
+        SigningKeyService signingKeyService = createSigningKeyService();
+        //when
+        List<Map<String, Object>> jsonWebKeys = signingKeyService.getJsonWebKeys();
+        //then
+        assertEquals(2, jsonWebKeys.size());
+        Map<String, Object> rsaKey = jsonWebKeys.get(0);
+        assertEquals(SigningKeyService.CONFIGURED_KEY_ID, rsaKey.get("kid"));
+        assertEquals("RSA", rsaKey.get("kty"));
+        assertEquals("AQAB", rsaKey.get("e"));
+        Map<String, Object> ecKey = jsonWebKeys.get(1);
+        assertEquals(signingKeyService.getActiveKey().getKid(), ecKey.get("kid"));
+        assertEquals("EC", ecKey.get("kty"));
+        assertEquals("P-256", ecKey.get("crv"));
+        assertEquals("ES256", ecKey.get("alg"));
+        assertEquals(32, Base64.getUrlDecoder().decode((String) ecKey.get("x")).length);
+        assertEquals(32, Base64.getUrlDecoder().decode((String) ecKey.get("y")).length);
+    }
+
+    @Test
+    public void shouldNotReloadKeysForEveryUnknownKid() {
+        //given
+        JwtSigningKeyRepository mockedRepository = mock(JwtSigningKeyRepository.class);
+        when(mockedRepository.findVerificationKeys(any(Instant.class))).thenReturn(List.of(new JwtSigningKey("active",
+                JwtSigningAlgorithm.RS256, Base64.getEncoder().encodeToString(configuredKeyPair.getPublic().getEncoded()),
+                Base64.getEncoder().encodeToString(configuredKeyPair.getPrivate().getEncoded()), clock.instant(), null)));
+        SigningKeyService signingKeyService = new SigningKeyService(mockedRepository, rsaKeyUtil, JwtSigningAlgorithm.RS256,
+                ROTATION_PERIOD, RETENTION, clock);
+        clearInvocations(mockedRepository);
+        //when
+        for (int i = 0; i < 100; i++) {
+            String kid = "forged-" + i;
+            assertThrows(JWTVerificationException.class, () -> signingKeyService.getVerificationKey(kid));
+        }
+        clock.advance(SigningKeyService.UNKNOWN_KEY_RELOAD_INTERVAL);
+        assertThrows(JWTVerificationException.class, () -> signingKeyService.getVerificationKey("forged-after-interval"));
+        //then
+        verify(mockedRepository, times(2)).findVerificationKeys(any(Instant.class));
+    }
+
+    private SigningKeyService createSigningKeyService() {
+        return new SigningKeyService(jwtSigningKeyRepository, rsaKeyUtil, JwtSigningAlgorithm.ES256, ROTATION_PERIOD, RETENTION, clock);
+    }
+
+    private EmployeeDto createEmployeeDto() {
+        return new EmployeeDto(7L, "szymon", "hashed_password", "szymon@o2.pl", true, Role.ADMIN,
+                null, null, null, null);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
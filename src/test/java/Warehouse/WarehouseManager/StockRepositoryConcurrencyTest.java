@@ -0,0 +1,114 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.ProductSize;
+import Warehouse.WarehouseManager.product.Product;
+import Warehouse.WarehouseManager.product.ProductRepository;
+import Warehouse.WarehouseManager.stock.Stock;
+import Warehouse.WarehouseManager.stock.StockRepository;
+import Warehouse.WarehouseManager.warehouse.Warehouse;
+import Warehouse.WarehouseManager.warehouse.WarehouseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class StockRepositoryConcurrencyTest {
+
+    private static final long INITIAL_QUANTITY = 20000L;
+    private static final int DELTAS = 10000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private StockRepository stockRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    private Product product;
+    private Warehouse warehouse;
+    private Stock stock;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        product = new Product();
+        product.setName("stock-" + suffix);
+        product.setSize(ProductSize.SMALL);
+        product = productRepository.save(product);
+        warehouse = new Warehouse();
+        warehouse.setName("stock-" + suffix);
+        warehouse.setCapacity(10000000L);
+        warehouse.setOccupiedArea(0L);
+        warehouse = warehouseRepository.save(warehouse);
+        stock = new Stock();
+        stock.setProduct(product);
+        stock.setWarehouse(warehouse);
+        stock.setQuantity(INITIAL_QUANTITY);
+        stock = stockRepository.save(stock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stockRepository.deleteById(stock.getId());
+        productRepository.deleteById(product.getId());
+        warehouseRepository.deleteById(warehouse.getId());
+    }
+
+    @Test
+    public void shouldKeepExactQuantityAfterConcurrentMixedDeltas() throws Exception {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger updatedRows = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        long expectedQuantity = INITIAL_QUANTITY;
+        //when
+        for (int i = 0; i < DELTAS; i++) {
+            long delta = i % 2 == 0 ? 3L : -2L;
+            expectedQuantity += delta;
+            futures.add(executorService.submit(() -> {
+                startSignal.await();
+                updatedRows.addAndGet(stockRepository.applyQuantityDelta(product.getId(), warehouse.getId(), delta));
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executorService.shutdown();
+        //then
+        assertEquals(DELTAS, updatedRows.get());
+        assertEquals(expectedQuantity, stockRepository.findById(stock.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    public void shouldRejectDeltaBelowZero() {
+        //when then
+        assertEquals(0, stockRepository.applyQuantityDelta(product.getId(), warehouse.getId(), -INITIAL_QUANTITY - 1));
+        assertEquals(1, stockRepository.applyQuantityDelta(product.getId(), warehouse.getId(), -INITIAL_QUANTITY));
+        assertEquals(0L, stockRepository.findById(stock.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    public void shouldNotUpdateStockOfAnotherWarehouse() {
+        //when then
+        assertEquals(0, stockRepository.applyQuantityDelta(product.getId(), warehouse.getId() + 1, 5L));
+        assertEquals(INITIAL_QUANTITY, stockRepository.findById(stock.getId()).orElseThrow().getQuantity());
+    }
+}
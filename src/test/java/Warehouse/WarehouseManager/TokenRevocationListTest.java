@@ -0,0 +1,132 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.security.BloomFilter;
+import Warehouse.WarehouseManager.security.RevokedTokenRepository;
+import Warehouse.WarehouseManager.security.TokenRevocationList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TokenRevocationListTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    public void setUp() {
+        revokedTokenRepository.deleteAll();
+        clock = new MutableClock(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        revokedTokenRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldRevokeTokenOnlyOnce() {
+        //given
+        TokenRevocationList tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 1000, clock);
+        Instant expiresAt = clock.instant().plus(Duration.ofMinutes(30));
+        //when
+        boolean firstRevocation = tokenRevocationList.revoke("token", expiresAt);
+        boolean secondRevocation = tokenRevocationList.revoke("token", expiresAt);
+        //then
+        assertTrue(firstRevocation);
+        assertFalse(secondRevocation);
+        assertTrue(tokenRevocationList.isRevoked("token"));
+        assertFalse(tokenRevocationList.isRevoked("other-token"));
+        assertFalse(tokenRevocationList.isRevoked(null));
+    }
+
+    @Test
+    public void shouldPickUpRevocationsOfOtherInstances() {
+        //given
+        TokenRevocationList tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 1000, clock);
+        TokenRevocationList otherInstance = new TokenRevocationList(revokedTokenRepository, 1000, clock);
+        otherInstance.revoke("token", clock.instant().plus(Duration.ofMinutes(30)));
+        //when
+        tokenRevocationList.synchronize();
+        //then
+        assertTrue(tokenRevocationList.isRevoked("token"));
+    }
+
+    @Test
+    public void shouldForgetExpiredRevocations() {
+        //given
+        TokenRevocationList tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 1000, clock);
+        tokenRevocationList.revoke("short-lived", clock.instant().plus(Duration.ofMinutes(30)));
+        tokenRevocationList.revoke("long-lived", clock.instant().plus(Duration.ofDays(14)));
+        clock.advance(Duration.ofHours(1));
+        //when
+        tokenRevocationList.synchronize();
+        //then
+        assertFalse(tokenRevocationList.isRevoked("short-lived"));
+        assertTrue(tokenRevocationList.isRevoked("long-lived"));
+        assertEquals(1, tokenRevocationList.size());
+        assertFalse(revokedTokenRepository.existsById("short-lived"));
+    }
+
+    @Test
+    public void shouldKeepBloomFilterFalsePositivesNearConfiguredRate() {
+        //given
+        BloomFilter bloomFilter = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.put("revoked-" + i);
+        }
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+        //then
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(bloomFilter.mightContain("revoked-" + i));
+        }
+        assertTrue(falsePositives < 300);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
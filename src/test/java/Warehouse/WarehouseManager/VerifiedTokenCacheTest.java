@@ -0,0 +1,152 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.security.VerifiedTokenCache;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerifiedTokenCacheTest {
+
+    private final Algorithm algorithm = Algorithm.HMAC256("verified-token-cache-test");
+    private final JWTVerifier jwtVerifier = JWT.require(algorithm).build();
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final Function<String, DecodedJWT> countingVerifier = token -> {
+        verifications.incrementAndGet();
+        return jwtVerifier.verify(token);
+    };
+
+    private MutableClock clock;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.now());
+        verifiedTokenCache = new VerifiedTokenCache(2, clock);
+    }
+
+    @Test
+    public void shouldVerifySignatureOncePerToken() {
+        //given
+        String token = createToken("1", Duration.ofMinutes(30));
+        //when
+        DecodedJWT first = verifiedTokenCache.verify(token, countingVerifier);
+        DecodedJWT second = verifiedTokenCache.verify(token, countingVerifier);
+        //then
+        assertEquals(1, verifications.get());
+        assertSame(first, second);
+        assertEquals("1", second.getSubject());
+    }
+
+    @Test
+    public void shouldVerifyAgainAfterTokenExpiry() {
+        //given
+        String token = createToken("1", Duration.ofMinutes(30));
+        verifiedTokenCache.verify(token, countingVerifier);
+        //when
+        clock.advance(Duration.ofMinutes(31));
+        //then
+        assertThrows(TokenExpiredException.class,
+                () -> verifiedTokenCache.verify(token, token1 -> {
+                    verifications.incrementAndGet();
+                    throw new TokenExpiredException("expired", clock.instant());
+                }));
+        assertEquals(2, verifications.get());
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    public void shouldNotCacheTokenWithInvalidSignature() {
+        //given
+        String token = createToken("1", Duration.ofMinutes(30));
+        String tamperedToken = token.substring(0, token.length() - 2) + "xx";
+        //when then
+        assertThrows(SignatureVerificationException.class, () -> verifiedTokenCache.verify(tamperedToken, countingVerifier));
+        assertThrows(SignatureVerificationException.class, () -> verifiedTokenCache.verify(tamperedToken, countingVerifier));
+        assertEquals(2, verifications.get());
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    public void shouldStayWithinMaximumSize() {
+        //given
+        String firstToken = createToken("1", Duration.ofMinutes(30));
+        String secondToken = createToken("2", Duration.ofMinutes(30));
+        String thirdToken = createToken("3", Duration.ofMinutes(30));
+        //when
+        verifiedTokenCache.verify(firstToken, countingVerifier);
+        verifiedTokenCache.verify(secondToken, countingVerifier);
+        verifiedTokenCache.verify(thirdToken, countingVerifier);
+        verifiedTokenCache.verify(thirdToken, countingVerifier);
+        //then
+        assertEquals(3, verifications.get());
+        assertEquals(2, verifiedTokenCache.size());
+    }
+
+    @Test
+    public void shouldEvictExpiredTokensFirstAboveMaximumSize() {
+        //given
+        String shortLivedToken = createToken("1", Duration.ofMinutes(5));
+        String longLivedToken = createToken("2", Duration.ofMinutes(30));
+        String thirdToken = createToken("3", Duration.ofMinutes(30));
+        verifiedTokenCache.verify(shortLivedToken, countingVerifier);
+        verifiedTokenCache.verify(longLivedToken, countingVerifier);
+        clock.advance(Duration.ofMinutes(10));
+        //when
+        verifiedTokenCache.verify(thirdToken, countingVerifier);
+        verifiedTokenCache.verify(longLivedToken, countingVerifier);
+        //then
+        assertEquals(3, verifications.get());
+        assertEquals(2, verifiedTokenCache.size());
+    }
+
+    private String createToken(String subject, Duration timeToLive) {
+        return JWT.create()
+                .withSubject(subject)
+                .withIssuedAt(Date.from(clock.instant()))
+                .withExpiresAt(Date.from(clock.instant().plus(timeToLive)))
+                .sign(algorithm);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.warehouse.WarehouseController;
+import Warehouse.WarehouseManager.warehouse.WarehouseDto;
+import Warehouse.WarehouseManager.warehouse.WarehouseService;
+import Warehouse.WarehouseManager.warehouse.WarehouseSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class WarehouseControllerTest {
+
+    private final WarehouseService warehouseService = mock(WarehouseService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new WarehouseController(warehouseService)).build();
+
+    @Test
+    public void shouldReturnWarehouseSummariesByDefault() throws Exception {
+        //given
+        when(warehouseService.getWarehouseSummaryList())
+                .thenReturn(List.of(new WarehouseSummary(1L, "M1", 10000L, 400L, 9600L, 2L, 1L)));
+        //when then
+        mockMvc.perform(get("/api/warehouse/all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].freeCapacity").value(9600));
+        verify(warehouseService, never()).getWarehouseDtoList();
+    }
+
+    @Test
+    public void shouldReturnWarehousesWithTasksWhenRequested() throws Exception {
+        //given
+        when(warehouseService.getWarehouseDtoList())
+                .thenReturn(List.of(new WarehouseDto(1L, "M1", 10000L, 400L, null)));
+        //when then
+        mockMvc.perform(get("/api/warehouse/all").param("include", "tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("M1"));
+        verify(warehouseService, never()).getWarehouseSummaryList();
+    }
+}
@@ -0,0 +1,97 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.warehouse.Warehouse;
+import Warehouse.WarehouseManager.warehouse.WarehouseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class WarehouseRepositoryConcurrencyTest {
+
+    private static final long CAPACITY = 10000L;
+    private static final long RESERVATION = 7L;
+    private static final int RESERVATIONS = 5000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    private Warehouse warehouse;
+
+    @BeforeEach
+    public void setUp() {
+        warehouse = new Warehouse();
+        warehouse.setName("concurrency-" + System.nanoTime());
+        warehouse.setCapacity(CAPACITY);
+        warehouse.setOccupiedArea(0L);
+        warehouse = warehouseRepository.save(warehouse);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        warehouseRepository.deleteById(warehouse.getId());
+    }
+
+    @Test
+    public void shouldNeverExceedCapacityUnderParallelReservations() throws Exception {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger acceptedReservations = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < RESERVATIONS; i++) {
+            futures.add(executorService.submit(() -> {
+                startSignal.await();
+                acceptedReservations.addAndGet(warehouseRepository.reserveCapacity(warehouse.getId(), RESERVATION));
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executorService.shutdown();
+        //then
+        long occupiedArea = warehouseRepository.findById(warehouse.getId()).orElseThrow().getOccupiedArea();
+        assertTrue(occupiedArea <= CAPACITY);
+        assertEquals(acceptedReservations.get() * RESERVATION, occupiedArea);
+        assertEquals(CAPACITY / RESERVATION, acceptedReservations.get());
+    }
+
+    @Test
+    public void shouldRejectReleaseBelowZero() {
+        //when then
+        assertEquals(0, warehouseRepository.reserveCapacity(warehouse.getId(), -RESERVATION));
+        assertEquals(1, warehouseRepository.reserveCapacity(warehouse.getId(), RESERVATION));
+        assertEquals(1, warehouseRepository.reserveCapacity(warehouse.getId(), -RESERVATION));
+        assertEquals(0L, warehouseRepository.findById(warehouse.getId()).orElseThrow().getOccupiedArea());
+    }
+
+    @Test
+    public void shouldRejectStaleWarehouseSaveAfterCapacityReservation() {
+        //given
+        Warehouse staleWarehouse = warehouseRepository.findById(warehouse.getId()).orElseThrow();
+        warehouseRepository.reserveCapacity(warehouse.getId(), RESERVATION);
+        staleWarehouse.setName(staleWarehouse.getName() + "-renamed");
+        //when then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> warehouseRepository.save(staleWarehouse));
+        assertEquals(RESERVATION, warehouseRepository.findById(warehouse.getId()).orElseThrow().getOccupiedArea());
+    }
+}
@@ -22,12 +22,15 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class WarehouseServiceTest {
     @Mock
     private WarehouseRepository warehouseRepository;
+    @Mock
+    private WarehouseTaskRepository warehouseTaskRepository;
     @InjectMocks
     private WarehouseService warehouseService;
     @Test
@@ -41,16 +44,28 @@ public class WarehouseServiceTest {
         assertEquals(3,warehouseDtoList.size());
     }
 
+    @Test
+    public void shouldGetWarehouseSummaryListWithoutLoadingTasks(){
+        //given
+        when(warehouseRepository.findWarehouseSummaries(ApprovalStatus.NOT_APPROVED, ApprovalStatus.APPROVED))
+                .thenReturn(List.of(new WarehouseSummary(1L, "M1", 10000L, 400L, 9600L, 2L, 1L)));
+        //when
+        List<WarehouseSummary> warehouseSummaries = warehouseService.getWarehouseSummaryList();
+        //then
+        assertEquals(1, warehouseSummaries.size());
+        assertEquals(9600L, warehouseSummaries.get(0).freeCapacity());
+        verifyNoInteractions(warehouseTaskRepository);
+    }
+
     @Test
     public void shouldFindWarehouseByWarehouseId(){
         //given
         WarehouseTask warehouseTask = new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RECEPTION_AREA);
-        WarehouseTasks warehouseTasks = new WarehouseTasks();
-        warehouseTasks.setWarehouseTaskList(new ArrayList<>(List.of(warehouseTask)));
-        Warehouse warehouse = new Warehouse(1L,"M1",10000L,0L,warehouseTasks);
+                Status.RECEPTION_AREA, 1L);
+        Warehouse warehouse = new Warehouse(1L,"M1",10000L,0L);
         when(warehouseRepository.findById(1L)).thenReturn(Optional.of(warehouse));
+        when(warehouseTaskRepository.findByWarehouseId(1L)).thenReturn(new ArrayList<>(List.of(warehouseTask)));
         //when
         WarehouseDto warehouseDto = warehouseService.getWarehouseDtoById(1L);
         //then
@@ -64,12 +79,9 @@ public class WarehouseServiceTest {
 
 
     private List<Warehouse> createWarehousesForTest(){
-        WarehouseTasks warehouseTasks = new WarehouseTasks();
-        WarehouseTasks warehouseTasks1 = new WarehouseTasks();
-        WarehouseTasks warehouseTasks2 = new WarehouseTasks();
-        Warehouse warehouse = new Warehouse(1L,"M1",10000L,0L,warehouseTasks);
-        Warehouse warehouse1 = new Warehouse(2L,"M2",10000L,0L,warehouseTasks1);
-        Warehouse warehouse2 = new Warehouse(3L,"M1",10000L,0L,warehouseTasks2);
+        Warehouse warehouse = new Warehouse(1L,"M1",10000L,0L);
+        Warehouse warehouse1 = new Warehouse(2L,"M2",10000L,0L);
+        Warehouse warehouse2 = new Warehouse(3L,"M1",10000L,0L);
         return Arrays.asList(warehouse,warehouse1,warehouse2);
     }
 
@@ -0,0 +1,57 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.ApprovalStatus;
+import Warehouse.WarehouseManager.enums.Status;
+import Warehouse.WarehouseManager.warehouse.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class WarehouseSummaryQueryTest {
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+    @Autowired
+    private WarehouseTaskRepository warehouseTaskRepository;
+
+    @Test
+    public void shouldSummarizeOpenTasksPerWarehouse() {
+        //given
+        String suffix = String.valueOf(System.nanoTime());
+        Warehouse busyWarehouse = warehouseRepository.save(new Warehouse(null, "summary-busy-" + suffix, 1000L, 250L));
+        Warehouse idleWarehouse = warehouseRepository.save(new Warehouse(null, "summary-idle-" + suffix, 500L, 0L));
+        warehouseTaskRepository.saveAll(List.of(
+                createTask(busyWarehouse.getId(), ApprovalStatus.NOT_APPROVED),
+                createTask(busyWarehouse.getId(), ApprovalStatus.NOT_APPROVED),
+                createTask(busyWarehouse.getId(), ApprovalStatus.APPROVED),
+                createTask(busyWarehouse.getId(), ApprovalStatus.DONE)));
+        warehouseTaskRepository.flush();
+        //when
+        List<WarehouseSummary> warehouseSummaries = warehouseRepository.findWarehouseSummaries(ApprovalStatus.NOT_APPROVED, ApprovalStatus.APPROVED);
+        //then
+        WarehouseSummary busySummary = findSummary(warehouseSummaries, busyWarehouse.getId());
+        assertEquals(750L, busySummary.freeCapacity());
+        assertEquals(2L, busySummary.notApprovedTaskCount());
+        assertEquals(1L, busySummary.approvedTaskCount());
+        WarehouseSummary idleSummary = findSummary(warehouseSummaries, idleWarehouse.getId());
+        assertEquals(500L, idleSummary.freeCapacity());
+        assertEquals(0L, idleSummary.notApprovedTaskCount());
+        assertEquals(0L, idleSummary.approvedTaskCount());
+    }
+
+    private WarehouseTask createTask(Long warehouseId, ApprovalStatus approvalStatus) {
+        return new WarehouseTask(null, 1L, 10L, approvalStatus, LocalDate.now(), LocalDate.now(), Status.RECEPTION_AREA, warehouseId);
+    }
+
+    private WarehouseSummary findSummary(List<WarehouseSummary> warehouseSummaries, Long warehouseId) {
+        return warehouseSummaries.stream().filter(summary -> summary.id().equals(warehouseId)).findFirst().orElseThrow();
+    }
+}
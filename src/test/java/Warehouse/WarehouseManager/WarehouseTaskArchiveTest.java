@@ -0,0 +1,96 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.ApprovalStatus;
+import Warehouse.WarehouseManager.enums.Status;
+import Warehouse.WarehouseManager.warehouse.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class WarehouseTaskArchiveTest {
+
+    @Autowired
+    private WarehouseTaskRepository warehouseTaskRepository;
+    @Autowired
+    private ArchivedWarehouseTaskRepository archivedWarehouseTaskRepository;
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    private WarehouseTaskArchiveService warehouseTaskArchiveService;
+    private Warehouse warehouse;
+
+    @BeforeEach
+    public void setUp() {
+        warehouseTaskArchiveService = new WarehouseTaskArchiveService(warehouseTaskRepository,
+                archivedWarehouseTaskRepository, 30, 2);
+        warehouse = new Warehouse();
+        warehouse.setName("archive-" + System.nanoTime());
+        warehouse.setCapacity(10000L);
+        warehouse.setOccupiedArea(0L);
+        warehouse = warehouseRepository.save(warehouse);
+        LocalDate now = LocalDate.now();
+        warehouseTaskRepository.saveAll(List.of(
+                createTask(ApprovalStatus.DONE, now.minusDays(400)),
+                createTask(ApprovalStatus.DONE, now.minusDays(100)),
+                createTask(ApprovalStatus.DONE, now.minusDays(40)),
+                createTask(ApprovalStatus.DONE, now.minusDays(5)),
+                createTask(ApprovalStatus.APPROVED, now.minusDays(400))));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        archivedWarehouseTaskRepository.deleteAll(archivedWarehouseTaskRepository
+                .findByWarehouseIdAndCompletedAtBetweenAndIdGreaterThanOrderById(warehouse.getId(),
+                        LocalDate.now().minusYears(5), LocalDate.now(), 0L, Limit.unlimited()));
+        warehouseRepository.deleteById(warehouse.getId());
+    }
+
+    @Test
+    public void shouldMoveOnlyOldCompletedTasksToArchive() {
+        //when
+        warehouseTaskArchiveService.archiveCompletedTasks();
+        //then
+        List<WarehouseTask> liveTasks = warehouseTaskRepository.findByWarehouseId(warehouse.getId());
+        assertEquals(2, liveTasks.size());
+        assertTrue(liveTasks.stream().noneMatch(task -> task.getApprovalStatus().equals(ApprovalStatus.DONE)
+                && task.getTaskUpdatedAt().isBefore(LocalDate.now().minusDays(30))));
+        ArchivedWarehouseTaskPage archivedTasks = warehouseTaskArchiveService.getArchivedWarehouseTasks(warehouse.getId(),
+                LocalDate.now().minusYears(2), LocalDate.now(), null, 50);
+        assertEquals(3, archivedTasks.archivedTaskList().size());
+        assertNull(archivedTasks.nextAfterId());
+    }
+
+    @Test
+    public void shouldPageArchivedTasksWithinCompletedDateRange() {
+        //given
+        warehouseTaskArchiveService.archiveCompletedTasks();
+        //when
+        ArchivedWarehouseTaskPage firstPage = warehouseTaskArchiveService.getArchivedWarehouseTasks(warehouse.getId(),
+                LocalDate.now().minusDays(200), LocalDate.now(), null, 1);
+        ArchivedWarehouseTaskPage secondPage = warehouseTaskArchiveService.getArchivedWarehouseTasks(warehouse.getId(),
+                LocalDate.now().minusDays(200), LocalDate.now(), firstPage.nextAfterId(), 1);
+        //then
+        assertEquals(1, firstPage.archivedTaskList().size());
+        assertEquals(1, secondPage.archivedTaskList().size());
+        assertTrue(firstPage.archivedTaskList().get(0).getId() < secondPage.archivedTaskList().get(0).getId());
+    }
+
+    private WarehouseTask createTask(ApprovalStatus approvalStatus, LocalDate updatedAt) {
+        return new WarehouseTask(null, 1L, 10L, approvalStatus, updatedAt.minusDays(1), updatedAt,
+                Status.RECEPTION_AREA, warehouse.getId());
+    }
+}
@@ -6,17 +6,21 @@ import Warehouse.WarehouseManager.employee.EmployeeService;
 import Warehouse.WarehouseManager.enums.*;
 import Warehouse.WarehouseManager.exception.*;
 import Warehouse.WarehouseManager.product.Product;
+import Warehouse.WarehouseManager.product.ProductCache;
 import Warehouse.WarehouseManager.product.ProductRepository;
 import Warehouse.WarehouseManager.security.SecurityService;
 import Warehouse.WarehouseManager.stock.Stock;
 import Warehouse.WarehouseManager.stock.StockRepository;
 import Warehouse.WarehouseManager.warehouse.*;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -24,7 +28,13 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,27 +49,56 @@ public class WarehouseTaskManagementServiceTest {
     private SecurityService securityService;
     @Mock
     private EmployeeService employeeService;
+    @Mock
+    private WarehouseTaskRepository warehouseTaskRepository;
 
-    @InjectMocks
     private WarehouseTaskManagementService warehouseManagementTaskService;
 
+    @BeforeEach
+    public void setUp(){
+        warehouseManagementTaskService = new WarehouseTaskManagementService(warehouseRepository, securityService,
+                employeeService, new ProductCache(productRepository, 100, Duration.ofMinutes(5), Clock.systemUTC()),
+                stockRepository, warehouseTaskRepository);
+    }
+
 
     @Test
     public void shouldGetWarehouseTaskList(){
         //given
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByWarehouseId(1L)).thenReturn(createWarehouseTaskListForTest());
         //when
         WarehouseTasks warehouseTasksList = warehouseManagementTaskService.getWarehouseTasksList(1L);
         assertNotNull(warehouseTasksList);
         assertEquals(3,warehouseTasksList.getWarehouseTaskList().size());
     }
+    @Test
+    public void shouldReturnNextAfterIdWhenSearchPageIsFull(){
+        //given
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findBy(any(Specification.class), any())).thenReturn(createWarehouseTaskListForTest());
+        //when
+        WarehouseTaskPage warehouseTaskPage = warehouseManagementTaskService.searchWarehouseTasks(1L,
+                new WarehouseTaskFilter(null, null, null, null, null), null, 3);
+        //then
+        assertEquals(3,warehouseTaskPage.warehouseTaskList().size());
+        assertEquals(3L,warehouseTaskPage.nextAfterId());
+    }
+
+    @Test
+    public void shouldThrowIllegalDataExceptionWhenSearchPageSizeIsTooBig(){
+        //when then
+        assertThrows(IllegalDataException.class, () -> warehouseManagementTaskService.searchWarehouseTasks(1L,
+                new WarehouseTaskFilter(null, null, null, null, null), null, 501));
+    }
+
     @Test
     public void shouldCreateWarehouseTask(){
         //given
         when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
-        when(productRepository.existsById(1L)).thenReturn(true);
         when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
-        when(stockRepository.findStockByProductId(1L)).thenReturn(Optional.of(createStockWithFiftyQuantity()));
+        when(stockRepository.findStockByProductIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createStockWithFiftyQuantity()));
+        when(warehouseTaskRepository.save(any(WarehouseTask.class))).thenAnswer(invocation -> invocation.getArgument(0));
         //when
         WarehouseTask task = warehouseManagementTaskService.createWarehouseTask
                 (createWarehouseTaskWithNotApprovedStatus(),1L);
@@ -69,7 +108,86 @@ public class WarehouseTaskManagementServiceTest {
         assertEquals(50,createWarehouseTaskWithNotApprovedStatus().getQuantity());
         assertTrue(task.getApprovalStatus().equals(ApprovalStatus.NOT_APPROVED));
         assertEquals(Status.RELEASE_AREA,task.getStatus());
+        assertEquals(1L,task.getWarehouseId());
+        assertNotNull(task.getTaskCreatedAt());
+    }
+    @Test
+    public void shouldCreateWarehouseTasksInBatchAndReportRejectedItems(){
+        //given
+        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(createProductWithProductSizeMedium()));
+        when(stockRepository.findStocksByWarehouseIdAndProductIds(eq(1L), anySet())).thenReturn(List.of(createStockWithFiftyQuantity()));
+        WarehouseTask taskWithUnknownProduct = new WarehouseTask(
+                2L, 2L, 50L, ApprovalStatus.NOT_APPROVED, LocalDate.now(),LocalDate.now(),
+                Status.RECEPTION_AREA, 1L);
+        List<WarehouseTask> warehouseTasks = List.of(createWarehouseTaskWithStatusReceptionArea(), taskWithUnknownProduct,
+                createWarehouseTaskWithNotApprovedStatus(), createWarehouseTaskWithNotApprovedStatus());
+        //when
+        List<WarehouseTaskBatchResult> results = warehouseManagementTaskService.createWarehouseTasks(warehouseTasks,1L);
+        //then
+        assertEquals(4,results.size());
+        assertTrue(results.get(0).success());
+        assertFalse(results.get(1).success());
+        assertTrue(results.get(2).success());
+        assertFalse(results.get(3).success());
+        assertEquals(new StockQuantityException().getMessage(),results.get(3).error());
+        verify(warehouseTaskRepository).saveAll(List.of(warehouseTasks.get(0), warehouseTasks.get(2)));
+    }
+
+    @Test
+    public void shouldRejectBatchTasksWhenCumulativeCapacityIsExceeded(){
+        //given
+        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(new Warehouse(1L,"M1",1000L,0L)));
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(createProductWithProductSizeMedium()));
+        List<WarehouseTask> warehouseTasks = List.of(createWarehouseTaskWithStatusReceptionArea(),
+                createWarehouseTaskWithStatusReceptionArea(), createWarehouseTaskWithStatusReceptionArea());
+        //when
+        List<WarehouseTaskBatchResult> results = warehouseManagementTaskService.createWarehouseTasks(warehouseTasks,1L);
+        //then
+        assertTrue(results.get(0).success());
+        assertTrue(results.get(1).success());
+        assertFalse(results.get(2).success());
+        verify(warehouseTaskRepository).saveAll(List.of(warehouseTasks.get(0), warehouseTasks.get(1)));
+    }
+
+    @Test
+    public void shouldRejectOnlyBatchTasksWithMissingStatusOrNonPositiveQuantity(){
+        //given
+        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(new Warehouse(1L,"M1",1000L,0L)));
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(createProductWithProductSizeMedium()));
+        WarehouseTask taskWithoutStatus = new WarehouseTask(
+                null, 1L, 10L, ApprovalStatus.NOT_APPROVED, LocalDate.now(), null, null, 1L);
+        WarehouseTask taskWithNegativeQuantity = new WarehouseTask(
+                null, 1L, -1000L, ApprovalStatus.NOT_APPROVED, LocalDate.now(), null, Status.RECEPTION_AREA, 1L);
+        List<WarehouseTask> warehouseTasks = List.of(taskWithoutStatus, taskWithNegativeQuantity,
+                createWarehouseTaskWithStatusReceptionArea(), createWarehouseTaskWithStatusReceptionArea(),
+                createWarehouseTaskWithStatusReceptionArea());
+        //when
+        List<WarehouseTaskBatchResult> results = warehouseManagementTaskService.createWarehouseTasks(warehouseTasks,1L);
+        //then
+        assertEquals(IncorrectStatusException.class.getSimpleName(),results.get(0).error());
+        assertEquals(new StockQuantityException().getMessage(),results.get(1).error());
+        assertTrue(results.get(2).success());
+        assertTrue(results.get(3).success());
+        assertFalse(results.get(4).success());
+        verify(warehouseTaskRepository).saveAll(List.of(warehouseTasks.get(2), warehouseTasks.get(3)));
     }
+
+    @Test
+    public void shouldCreateBatchTasksAsNotApprovedRegardlessOfRequest(){
+        //given
+        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(createProductWithProductSizeMedium()));
+        WarehouseTask approvedTask = new WarehouseTask(
+                null, 1L, 10L, ApprovalStatus.DONE, LocalDate.now(), LocalDate.now(), Status.RECEPTION_AREA, 1L);
+        //when
+        List<WarehouseTaskBatchResult> results = warehouseManagementTaskService.createWarehouseTasks(List.of(approvedTask),1L);
+        //then
+        assertTrue(results.get(0).success());
+        assertEquals(ApprovalStatus.NOT_APPROVED,approvedTask.getApprovalStatus());
+        assertNull(approvedTask.getTaskUpdatedAt());
+    }
+
     @Test
     public void shouldThrowWarehouseNotFoundExceptionWhenWarehouseNotExists(){
         //when then
@@ -91,8 +209,8 @@ public class WarehouseTaskManagementServiceTest {
         //given
 
         when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
-        when(productRepository.existsById(1L)).thenReturn(true);
-        when(stockRepository.findStockByProductId(1L)).thenReturn(Optional.of(createStockWithFiftyQuantity()));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
+        when(stockRepository.findStockByProductIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createStockWithFiftyQuantity()));
         //when then
         assertThrows(StockQuantityException.class,() -> warehouseManagementTaskService.createWarehouseTask(
                 createWarehouseTaskWithSixtyQuantity(),1L));
@@ -102,7 +220,7 @@ public class WarehouseTaskManagementServiceTest {
     public void shouldThrowIncorrectStatusExceptionWhenStatusIsNotCorrect(){
         //given
         when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithOccupiedArea()));
-        when(productRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
         //when then
         assertThrows(IncorrectStatusException.class,() -> warehouseManagementTaskService.createWarehouseTask
                 (createWarehouseTaskWithShippedStatusAndNotApproved(),1L));
@@ -112,7 +230,9 @@ public class WarehouseTaskManagementServiceTest {
     public void shouldChangeApproval(){
         //given
         when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployee().getRole());
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createWarehouseTaskWithNotApprovedStatus()));
+        when(warehouseTaskRepository.save(any(WarehouseTask.class))).thenAnswer(invocation -> invocation.getArgument(0));
         //when
         WarehouseTask task = warehouseManagementTaskService.changeApproval(1L,1L,1L);
         //then
@@ -141,47 +261,147 @@ public class WarehouseTaskManagementServiceTest {
     @Test
     public void shouldCompleteWarehouseOperationsWhenStatusIsReceptionArea(){
         //given
-        Warehouse warehouse = createWarehouseWithTaskList();
         when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(warehouse));
-        when(productRepository.existsById(1L)).thenReturn(true);
-        when(stockRepository.findStockByProductId(1L)).thenReturn(Optional.of(createStockWithFiftyQuantity()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseRepository.reserveCapacity(1L,500L)).thenReturn(1);
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createWarehouseTaskWithStatusReceptionArea()));
+        when(warehouseTaskRepository.save(any(WarehouseTask.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(stockRepository.applyQuantityDelta(1L,1L,50L)).thenReturn(1);
         //when
         WarehouseTask task = warehouseManagementTaskService.completeWarehouseTask(createWarehouseTaskWithStatusReceptionArea(),1L);
         //given
-        assertEquals(ApprovalStatus.APPROVED,task.getApprovalStatus());
-        assertEquals(500,warehouse.getOccupiedArea());
+        assertEquals(ApprovalStatus.DONE,task.getApprovalStatus());
+        verify(warehouseRepository).reserveCapacity(1L,500L);
+        verify(productRepository, times(1)).findById(1L);
     }
 
     @Test
     public void shouldCompleteWarehouseOperationsWhenStatusIsReleaseArea(){
         //given
-        Warehouse warehouse = createWarehouseWithOccupiedArea();
         when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(warehouse));
-        when(productRepository.existsById(1L)).thenReturn(true);
-        when(stockRepository.findStockByProductId(1L)).thenReturn(Optional.of(createStockWithFiftyQuantity()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseRepository.reserveCapacity(1L,-500L)).thenReturn(1);
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createWarehouseTaskWithStatusReleaseArea()));
+        when(warehouseTaskRepository.save(any(WarehouseTask.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(stockRepository.applyQuantityDelta(1L,1L,-50L)).thenReturn(1);
         //when
         WarehouseTask task = warehouseManagementTaskService.completeWarehouseTask(createWarehouseTaskWithStatusReleaseArea(),1L);
         //then
-        assertEquals(ApprovalStatus.APPROVED,task.getApprovalStatus());
-        assertEquals(500,warehouse.getOccupiedArea());
+        assertEquals(ApprovalStatus.DONE,task.getApprovalStatus());
+        verify(warehouseRepository).reserveCapacity(1L,-500L);
+        verify(stockRepository).applyQuantityDelta(1L,1L,-50L);
+    }
+
+    @Test
+    public void shouldThrowStockQuantityExceptionWhenReleaseExceedsStock(){
+        //given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseRepository.reserveCapacity(1L,-500L)).thenReturn(1);
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createWarehouseTaskWithStatusReleaseArea()));
+        when(stockRepository.applyQuantityDelta(1L,1L,-50L)).thenReturn(0);
+        when(stockRepository.existsByProductIdAndWarehouseId(1L,1L)).thenReturn(true);
+        //when then
+        assertThrows(StockQuantityException.class,() -> warehouseManagementTaskService.completeWarehouseTask
+                (createWarehouseTaskWithStatusReleaseArea(),1L));
+    }
+
+    @Test
+    public void shouldThrowWarehouseCapacityExceededExceptionWhenReservationIsRejected(){
+        //given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseRepository.reserveCapacity(1L,500L)).thenReturn(0);
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createWarehouseTaskWithStatusReceptionArea()));
+        //when then
+        assertThrows(WarehouseCapacityExceededException.class,() -> warehouseManagementTaskService.completeWarehouseTask
+                (createWarehouseTaskWithStatusReceptionArea(),1L));
     }
 
     @Test
     public void shouldThrowTaskNotApprovedExceptionWhenTaskIsNotApproved(){
+        //given
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createWarehouseTaskWithNotApprovedStatus()));
         //when then
         assertThrows(TaskNotApprovedException.class,()-> warehouseManagementTaskService.completeWarehouseTask
                 (createWarehouseTaskWithNotApprovedStatus(),1L));
     }
 
+    @Test
+    public void shouldApproveWarehouseTasksWithSingleAccessCheck(){
+        //given
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployee().getRole());
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.changeApprovalStatus(eq(1L), anySet(), eq(ApprovalStatus.NOT_APPROVED),
+                eq(ApprovalStatus.APPROVED), any(LocalDate.class))).thenReturn(3);
+        when(warehouseTaskRepository.findByWarehouseIdAndIdIn(eq(1L), anySet())).thenReturn(createWarehouseTaskListForTest());
+        //when
+        WarehouseTasks warehouseTasks = warehouseManagementTaskService.approveWarehouseTasks(1L,1L,List.of(1L,2L,3L));
+        //then
+        assertEquals(3,warehouseTasks.getWarehouseTaskList().size());
+        verify(employeeService).getEmployeeRoleByEmployeeId(1L);
+        verify(securityService).checkEmployeeAccess(createEmployee().getRole(), WarehouseSystemOperation.MODIFY, Resource.WAREHOUSE_OPERATION);
+    }
+
+    @Test
+    public void shouldCompleteWarehouseTasksWithAggregatedDeltas(){
+        //given
+        List<WarehouseTask> warehouseTasks = List.of(
+                createWarehouseTaskWithStatusReceptionArea(),
+                new WarehouseTask(2L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
+                        Status.RECEPTION_AREA, 1L),
+                new WarehouseTask(3L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
+                        Status.RELEASE_AREA, 1L));
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployee().getRole());
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByWarehouseIdAndIdIn(eq(1L), anySet())).thenReturn(warehouseTasks);
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(createProductWithProductSizeMedium()));
+        when(warehouseTaskRepository.changeApprovalStatus(eq(1L), anySet(), eq(ApprovalStatus.APPROVED),
+                eq(ApprovalStatus.DONE), any(LocalDate.class))).thenReturn(3);
+        when(warehouseRepository.reserveCapacity(1L,500L)).thenReturn(1);
+        when(stockRepository.applyQuantityDelta(1L,1L,50L)).thenReturn(1);
+        //when
+        WarehouseTasks completedTasks = warehouseManagementTaskService.completeWarehouseTasks(1L,1L,List.of(1L,2L,3L));
+        //then
+        assertTrue(completedTasks.getWarehouseTaskList().stream()
+                .allMatch(task -> task.getApprovalStatus().equals(ApprovalStatus.DONE)));
+        verify(warehouseRepository).reserveCapacity(1L,500L);
+        verify(stockRepository).applyQuantityDelta(1L,1L,50L);
+        verify(employeeService).getEmployeeRoleByEmployeeId(1L);
+    }
+
+    @Test
+    public void shouldThrowTaskNotApprovedExceptionWhenBulkCompleteContainsNotApprovedTask(){
+        //given
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployee().getRole());
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByWarehouseIdAndIdIn(eq(1L), anySet())).thenReturn(createWarehouseTaskListForTest());
+        //when then
+        assertThrows(TaskNotApprovedException.class, () ->
+                warehouseManagementTaskService.completeWarehouseTasks(1L,1L,List.of(1L,2L,3L)));
+    }
+
+    @Test
+    public void shouldThrowWarehouseTaskNotExistsExceptionWhenBulkCompleteContainsUnknownTask(){
+        //given
+        when(employeeService.getEmployeeRoleByEmployeeId(1L)).thenReturn(createEmployee().getRole());
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByWarehouseIdAndIdIn(eq(1L), anySet()))
+                .thenReturn(List.of(createWarehouseTaskWithStatusReceptionArea()));
+        //when then
+        assertThrows(WarehouseTaskNotExistsException.class, () ->
+                warehouseManagementTaskService.completeWarehouseTasks(1L,1L,List.of(1L,4L)));
+    }
+
     @Test
     public void shouldThrowIncorrectStatusExceptionWhenCompleteTaskHasNotCorrectStatus(){
         //given
         WarehouseTask warehouseTask = new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.SHIPPED);;
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+                Status.SHIPPED, 1L);
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(warehouseTask));
         //when then
         assertThrows(IncorrectStatusException.class,() -> warehouseManagementTaskService.completeWarehouseTask
                 (createWarehouseTaskWithShippedStatusAndApproved(),1L));
@@ -208,7 +428,7 @@ public class WarehouseTaskManagementServiceTest {
     public void shouldThrowStockNotExistsExceptionWhenCompleteTaskHasNotExistingStock(){
         //given
         when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
-        when(productRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
         //when then
         assertThrows(StockNotExistsException.class, () -> warehouseManagementTaskService.createWarehouseTask(
                 createWarehouseTaskWithSixtyQuantity(),1L));
@@ -217,7 +437,9 @@ public class WarehouseTaskManagementServiceTest {
     @Test
     public void shouldFindTaskListByApprovedStatus(){
         //given
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByWarehouseIdAndApprovalStatus(1L,ApprovalStatus.APPROVED))
+                .thenReturn(createWarehouseTaskListForTest().subList(0,2));
         //when
         WarehouseTasks warehouseTaskList = warehouseManagementTaskService.getWarehouseTaskListByApproved(1L,ApprovalStatus.APPROVED);
         //then
@@ -228,7 +450,9 @@ public class WarehouseTaskManagementServiceTest {
     @Test
     public void shouldFindTaskListByNotApprovedStatus(){
         //given
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByWarehouseIdAndApprovalStatus(1L,ApprovalStatus.NOT_APPROVED))
+                .thenReturn(createWarehouseTaskListForTest().subList(2,3));
         //when
         WarehouseTasks warehouseTaskList = warehouseManagementTaskService.getWarehouseTaskListByApproved(1L,ApprovalStatus.NOT_APPROVED);
         //then
@@ -245,7 +469,9 @@ public class WarehouseTaskManagementServiceTest {
     @Test
     public void shouldFindTaskListByApprovalStatusIsApproved(){
         //given
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByWarehouseIdAndApprovalStatus(1L,ApprovalStatus.APPROVED))
+                .thenReturn(createWarehouseTaskListForTest().subList(0,2));
         //when
         WarehouseTasks warehouseTaskList = warehouseManagementTaskService.getWarehouseTaskListByApproved(1L,ApprovalStatus.APPROVED);
         //then
@@ -256,7 +482,9 @@ public class WarehouseTaskManagementServiceTest {
     @Test
     public void shouldFindTaskListByApprovalStatusIsNotApproved(){
         //given
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByWarehouseIdAndApprovalStatus(1L,ApprovalStatus.NOT_APPROVED))
+                .thenReturn(createWarehouseTaskListForTest().subList(2,3));
         //when
         WarehouseTasks warehouseTaskList = warehouseManagementTaskService.getWarehouseTaskListByApproved(1L,ApprovalStatus.NOT_APPROVED);
         //then
@@ -269,7 +497,6 @@ public class WarehouseTaskManagementServiceTest {
             //given
             when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
             when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
-            when(productRepository.existsById(1L)).thenReturn(true);
             //when given
             assertThrows(WarehouseCapacityExceededException.class,() -> warehouseManagementTaskService.createWarehouseTask
                     (createWarehouseTaskWithTooBigCapacityForWarehouse(),1L));
@@ -289,20 +516,22 @@ public class WarehouseTaskManagementServiceTest {
         //given
         WarehouseTask warehouseTask1 = new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RECEPTION_AREA);
-        Warehouse warehouse = createWarehouseWithTaskList();
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(warehouse));
+                Status.RECEPTION_AREA, 1L);
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(warehouseTask1));
         //when
         warehouseManagementTaskService.deleteWarehouseTask(1L,createWarehouseTaskWithStatusReceptionArea());
         //then
-        assertEquals(2,warehouse.getWarehouseTasks().getWarehouseTaskList().size());
+        verify(warehouseTaskRepository).delete(warehouseTask1);
     }
 
     @Test
     public void shouldUpdateWarehouseTaskWhenStatusIsReceptionArea(){
         //given
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
-        when(productRepository.existsById(1L)).thenReturn(true);
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createWarehouseTaskListForTest().get(0)));
+        when(warehouseTaskRepository.save(any(WarehouseTask.class))).thenAnswer(invocation -> invocation.getArgument(0));
         //when
         WarehouseTask warehouseTask = warehouseManagementTaskService.modifyWarehouseTaskInformation
                 (1L,createWarehouseTaskWithStatusReceptionArea());
@@ -318,9 +547,11 @@ public class WarehouseTaskManagementServiceTest {
     @Test
     public void shouldUpdateWarehouseTaskWhenStatusIsReleaseArea(){
         //given
-        when(warehouseRepository.findById(1L)).thenReturn(Optional.of(createWarehouseWithTaskList()));
-        when(productRepository.existsById(1L)).thenReturn(true);
-        when(stockRepository.findStockByProductId(1L)).thenReturn(Optional.of(createStockWithFiftyQuantity()));
+        when(warehouseRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProductWithProductSizeMedium()));
+        when(stockRepository.findStockByProductIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createStockWithFiftyQuantity()));
+        when(warehouseTaskRepository.findByIdAndWarehouseId(1L,1L)).thenReturn(Optional.of(createWarehouseTaskListForTest().get(0)));
+        when(warehouseTaskRepository.save(any(WarehouseTask.class))).thenAnswer(invocation -> invocation.getArgument(0));
         //when
         WarehouseTask warehouseTask = warehouseManagementTaskService.modifyWarehouseTaskInformation
                 (1L,createWarehouseTaskWithStatusReleaseArea());
@@ -335,13 +566,13 @@ public class WarehouseTaskManagementServiceTest {
     private List<WarehouseTask> createWarehouseTaskListForTest(){
         WarehouseTask warehouseTask1 = new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RECEPTION_AREA);
+                Status.RECEPTION_AREA, 1L);
         WarehouseTask warehouseTask2 = new WarehouseTask(
                 2L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RECEPTION_AREA);
+                Status.RECEPTION_AREA, 1L);
         WarehouseTask warehouseTask3 = new WarehouseTask(
                 3L, 1L, 50L, ApprovalStatus.NOT_APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RELEASE_AREA);
+                Status.RELEASE_AREA, 1L);
         List<WarehouseTask> warehouseTaskList = new ArrayList<>();
         warehouseTaskList.add(warehouseTask1);
         warehouseTaskList.add(warehouseTask2);
@@ -350,38 +581,36 @@ public class WarehouseTaskManagementServiceTest {
     }
 
     private Warehouse createWarehouseWithTaskList(){
-        return new Warehouse(1L,"M1",1000000L,0L
-                ,new WarehouseTasks(createWarehouseTaskListForTest()));
+        return new Warehouse(1L,"M1",1000000L,0L);
     }
 
     private WarehouseTask createWarehouseTaskWithStatusReleaseArea(){
         return new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RELEASE_AREA);
+                Status.RELEASE_AREA, 1L);
     }
 
     private Warehouse createWarehouseWithOccupiedArea(){
 
-        return new Warehouse(1L,"M1",1000000L,1000L
-                ,new WarehouseTasks(List.of(createWarehouseTaskWithStatusReleaseArea())));
+        return new Warehouse(1L,"M1",1000000L,1000L);
     }
 
     private WarehouseTask createWarehouseTaskWithNotApprovedStatus(){
         return new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.NOT_APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RELEASE_AREA);
+                Status.RELEASE_AREA, 1L);
     }
 
     private WarehouseTask createWarehouseTaskWithTooBigCapacityForWarehouse(){
         return new WarehouseTask(
                 1L, 1L, 1000000L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RECEPTION_AREA);
+                Status.RECEPTION_AREA, 1L);
     }
 
     private WarehouseTask createWarehouseTaskWithStatusReceptionArea(){
         return new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RECEPTION_AREA);
+                Status.RECEPTION_AREA, 1L);
     }
 
     private Stock createStockWithFiftyQuantity(){
@@ -395,19 +624,19 @@ public class WarehouseTaskManagementServiceTest {
     private WarehouseTask createWarehouseTaskWithSixtyQuantity(){
         return new WarehouseTask(
                 1L, 1L, 60L, ApprovalStatus.NOT_APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.RELEASE_AREA);
+                Status.RELEASE_AREA, 1L);
     }
 
     private WarehouseTask createWarehouseTaskWithShippedStatusAndNotApproved(){
         return new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.NOT_APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.SHIPPED);
+                Status.SHIPPED, 1L);
     }
 
     private WarehouseTask createWarehouseTaskWithShippedStatusAndApproved(){
         return new WarehouseTask(
                 1L, 1L, 50L, ApprovalStatus.APPROVED, LocalDate.now(),LocalDate.now(),
-                Status.SHIPPED);
+                Status.SHIPPED, 1L);
     }
 
     private Employee createEmployee(){
@@ -0,0 +1,72 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.exception.WarehouseNotFoundException;
+import Warehouse.WarehouseManager.exception.WarehouseTaskConflictException;
+import Warehouse.WarehouseManager.warehouse.WarehouseContention;
+import Warehouse.WarehouseManager.warehouse.WarehouseContentionMetrics;
+import Warehouse.WarehouseManager.warehouse.WarehouseTaskMutationRetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WarehouseTaskMutationRetryTest {
+
+    private WarehouseContentionMetrics warehouseContentionMetrics;
+    private WarehouseTaskMutationRetry warehouseTaskMutationRetry;
+
+    @BeforeEach
+    public void setUp() {
+        warehouseContentionMetrics = new WarehouseContentionMetrics();
+        warehouseTaskMutationRetry = new WarehouseTaskMutationRetry(warehouseContentionMetrics, 3, 1);
+    }
+
+    @Test
+    public void shouldRetryMutationAfterOptimisticLockConflict() {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+        //when
+        String result = warehouseTaskMutationRetry.execute(1L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Warehouse", 1L);
+            }
+            return "done";
+        });
+        //then
+        assertEquals("done", result);
+        assertEquals(new WarehouseContention(1, 2, 2, 0), warehouseContentionMetrics.getContentionByWarehouse().get(1L));
+    }
+
+    @Test
+    public void shouldThrowWarehouseTaskConflictExceptionWhenRetriesAreExhausted() {
+        //when then
+        assertThrows(WarehouseTaskConflictException.class, () -> warehouseTaskMutationRetry.execute(2L, () -> {
+            throw new ObjectOptimisticLockingFailureException("Warehouse", 2L);
+        }));
+        assertEquals(new WarehouseContention(1, 3, 2, 1), warehouseContentionMetrics.getContentionByWarehouse().get(2L));
+    }
+
+    @Test
+    public void shouldNotRetryOtherExceptions() {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+        //when then
+        assertThrows(IllegalStateException.class, () -> warehouseTaskMutationRetry.execute(3L, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void shouldNotRecordWarehouseWhenMutationFailsToResolveIt() {
+        //when then
+        assertThrows(WarehouseNotFoundException.class, () -> warehouseTaskMutationRetry.execute(404L, () -> {
+            throw new WarehouseNotFoundException();
+        }));
+        assertTrue(warehouseContentionMetrics.getContentionByWarehouse().isEmpty());
+    }
+}
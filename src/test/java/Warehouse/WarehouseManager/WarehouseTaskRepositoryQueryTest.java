@@ -0,0 +1,98 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.enums.ApprovalStatus;
+import Warehouse.WarehouseManager.enums.Status;
+import Warehouse.WarehouseManager.warehouse.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class WarehouseTaskRepositoryQueryTest {
+
+    private static final int TASKS = 30;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private WarehouseTaskRepository warehouseTaskRepository;
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    private Warehouse warehouse;
+
+    @BeforeEach
+    public void setUp() {
+        warehouse = new Warehouse();
+        warehouse.setName("query-" + System.nanoTime());
+        warehouse.setCapacity(10000L);
+        warehouse.setOccupiedArea(0L);
+        warehouse = warehouseRepository.save(warehouse);
+        List<WarehouseTask> warehouseTasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            warehouseTasks.add(new WarehouseTask(null, i % 2 + 1L, 10L,
+                    i % 3 == 0 ? ApprovalStatus.NOT_APPROVED : ApprovalStatus.DONE,
+                    LocalDate.of(2024, 1, 1).plusDays(i), null,
+                    i % 2 == 0 ? Status.RECEPTION_AREA : Status.RELEASE_AREA, warehouse.getId()));
+        }
+        warehouseTaskRepository.saveAll(warehouseTasks);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        warehouseRepository.deleteById(warehouse.getId());
+    }
+
+    @Test
+    public void shouldWalkFilteredTasksWithKeysetPagination() {
+        //given
+        WarehouseTaskFilter filter = new WarehouseTaskFilter(ApprovalStatus.NOT_APPROVED, null, null, null, null);
+        List<WarehouseTask> visitedTasks = new ArrayList<>();
+        Long afterId = null;
+        //when
+        do {
+            List<WarehouseTask> page = findPage(filter, afterId);
+            visitedTasks.addAll(page);
+            afterId = page.size() == PAGE_SIZE ? page.get(PAGE_SIZE - 1).getId() : null;
+        } while (afterId != null);
+        //then
+        assertEquals(TASKS / 3, visitedTasks.size());
+        assertTrue(visitedTasks.stream().allMatch(task -> task.getApprovalStatus().equals(ApprovalStatus.NOT_APPROVED)));
+        for (int i = 1; i < visitedTasks.size(); i++) {
+            assertTrue(visitedTasks.get(i - 1).getId() < visitedTasks.get(i).getId());
+        }
+    }
+
+    @Test
+    public void shouldCombineProductStatusAndCreatedDateFilters() {
+        //given
+        WarehouseTaskFilter filter = new WarehouseTaskFilter(null, Status.RECEPTION_AREA, 1L,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10));
+        //when
+        List<WarehouseTask> warehouseTasks = warehouseTaskRepository.findBy(filter.toSpecification(warehouse.getId(), null),
+                query -> query.sortBy(Sort.by("id")).all());
+        //then
+        assertEquals(5, warehouseTasks.size());
+        assertTrue(warehouseTasks.stream().allMatch(task -> task.getProductId() == 1L
+                && task.getStatus().equals(Status.RECEPTION_AREA)
+                && !task.getTaskCreatedAt().isAfter(LocalDate.of(2024, 1, 10))));
+    }
+
+    private List<WarehouseTask> findPage(WarehouseTaskFilter filter, Long afterId) {
+        return warehouseTaskRepository.findBy(filter.toSpecification(warehouse.getId(), afterId),
+                query -> query.sortBy(Sort.by("id")).limit(PAGE_SIZE).all());
+    }
+}
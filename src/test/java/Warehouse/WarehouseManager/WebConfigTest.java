@@ -0,0 +1,47 @@
+package Warehouse.WarehouseManager;
+
+import Warehouse.WarehouseManager.config.WebConfig;
+import Warehouse.WarehouseManager.security.AuthenticationInterceptor;
+import Warehouse.WarehouseManager.security.SecurityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class WebConfigTest {
+
+    @Test
+    public void shouldAuthenticateEveryApiPathExceptCredentialEndpoints() {
+        //given
+        ExposedInterceptorRegistry registry = new ExposedInterceptorRegistry();
+        new WebConfig(new AuthenticationInterceptor(mock(SecurityService.class))).addInterceptors(registry);
+        MappedInterceptor authenticationInterceptor = (MappedInterceptor) registry.interceptors().get(0);
+        //when then
+        assertFalse(authenticationInterceptor.matches(request("PATCH", "/api/employee/login")));
+        assertFalse(authenticationInterceptor.matches(request("PATCH", "/api/employee/refresh-token")));
+        assertFalse(authenticationInterceptor.matches(request("POST", "/api/employee/registration")));
+        assertFalse(authenticationInterceptor.matches(request("PATCH", "/api/employee/activate/token")));
+        assertTrue(authenticationInterceptor.matches(request("GET", "/api/employee/metrics/password-hashing")));
+        assertTrue(authenticationInterceptor.matches(request("GET", "/api/employee/all")));
+        assertTrue(authenticationInterceptor.matches(request("GET", "/api/task/1")));
+        assertTrue(authenticationInterceptor.matches(request("GET", "/api/warehouse/all")));
+    }
+
+    private MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        ServletRequestPathUtils.parseAndCache(request);
+        return request;
+    }
+
+    private static class ExposedInterceptorRegistry extends InterceptorRegistry {
+        private List<Object> interceptors() {
+            return getInterceptors();
+        }
+    }
+}